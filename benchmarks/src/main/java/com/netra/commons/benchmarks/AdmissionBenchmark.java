@@ -0,0 +1,85 @@
+package com.netra.commons.benchmarks;
+
+import com.netra.commons.admission.AdmissionController;
+import com.netra.commons.admission.AdmissionDecision;
+import com.netra.commons.admission.RateLimit;
+import com.netra.commons.enums.DisputantType;
+import com.netra.commons.requests.CreateDisputeRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one {@link AdmissionController#admit} decision with every limit level configured, over a
+ * mix of customer and institution requests (the institution CHARGEBACKs on the priority lane); most
+ * callers are soon limited, so both the admit path and the release-on-reject path are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(3)
+public class AdmissionBenchmark {
+
+    @Param({"100000"})
+    public int capacity;
+
+    private AdmissionController controller;
+    private CreateDisputeRequest[] requests;
+
+    @Setup
+    public void setUp() {
+        controller = new AdmissionController(
+                new RateLimit(1, 5),
+                new RateLimit(500, 1_000),
+                Map.of(DisputantType.CUSTOMERUSER, new RateLimit(2_000, 4_000),
+                        DisputantType.INSTITUTIONUSER, new RateLimit(200, 400)),
+                new RateLimit(200, 400),
+                capacity);
+
+        DisputeRequestFixtures fixtures = new DisputeRequestFixtures(42);
+        List<CreateDisputeRequest> mix = new ArrayList<>(fixtures.requests(3_686, DisputeRequestFixtures.InitiatorKind.CUSTOMER, 1, 1));
+        mix.addAll(fixtures.requests(410, DisputeRequestFixtures.InitiatorKind.INSTITUTION, 2, 0));
+        Collections.shuffle(mix, new Random(42));
+        requests = mix.toArray(new CreateDisputeRequest[0]);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        private CreateDisputeRequest next(CreateDisputeRequest[] requests) {
+            CreateDisputeRequest request = requests[next];
+            next = (next + 1) & (requests.length - 1);
+            return request;
+        }
+    }
+
+    @Benchmark
+    public AdmissionDecision admit(Cursor cursor) {
+        return controller.admit(cursor.next(requests));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public AdmissionDecision admitContended(Cursor cursor) {
+        return controller.admit(cursor.next(requests));
+    }
+}
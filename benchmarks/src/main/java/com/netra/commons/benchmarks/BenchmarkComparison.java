@@ -0,0 +1,124 @@
+package com.netra.commons.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files and reports benchmarks that got slower, or allocate more per
+ * operation, by more than a threshold percentage. A change only counts when the two runs' error
+ * intervals (JMH's {@code scoreError}) do not overlap, so fork-to-fork noise does not fail the gate.
+ *
+ * Usage: {@code BenchmarkComparison <baseline.json> <current.json> [thresholdPercent]}; exits with 1
+ * when anything regressed.
+ */
+public final class BenchmarkComparison {
+
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+    // allocation noise floor, in bytes per operation
+    private static final double MIN_ALLOC_DELTA = 16;
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        int regressions = compare(Path.of(args[0]), Path.of(args[1]), threshold, System.out);
+        System.exit(regressions == 0 ? 0 : 1);
+    }
+
+    /**
+     * Prints a comparison table and returns the number of regressions.
+     */
+    public static int compare(Path baseline, Path current, double thresholdPercent, PrintStream out) throws IOException {
+        Map<String, Result> before = read(baseline);
+        Map<String, Result> after = read(current);
+
+        int regressions = 0;
+        out.printf("%-90s %14s %14s %9s %12s %12s%n", "Benchmark", "Baseline", "Current", "Change", "B/op before", "B/op after");
+        for (Map.Entry<String, Result> entry : after.entrySet()) {
+            Result now = entry.getValue();
+            Result then = before.get(entry.getKey());
+            if (then == null) {
+                out.printf("%-90s %14s %14.3f %9s%n", entry.getKey(), "-", now.score, "new");
+                continue;
+            }
+
+            // positive change is always "worse", whatever the mode
+            double change = now.higherIsBetter()
+                    ? percent(then.score - now.score, then.score)
+                    : percent(now.score - then.score, then.score);
+            boolean slower = change > thresholdPercent && (now.higherIsBetter()
+                    ? now.score + now.error < then.score - then.error
+                    : now.score - now.error > then.score + then.error);
+            boolean allocates = !Double.isNaN(then.allocNorm) && !Double.isNaN(now.allocNorm)
+                    && now.allocNorm - then.allocNorm > MIN_ALLOC_DELTA
+                    && now.allocNorm - now.allocError > then.allocNorm + then.allocError
+                    && percent(now.allocNorm - then.allocNorm, then.allocNorm) > thresholdPercent;
+
+            String flag = slower || allocates ? "  REGRESSION" : "";
+            if (!flag.isEmpty()) regressions++;
+            out.printf("%-90s %14.3f %14.3f %+8.1f%% %12.1f %12.1f%s%n",
+                    entry.getKey(), then.score, now.score, change, then.allocNorm, now.allocNorm, flag);
+        }
+        out.printf("%d regression(s) above %.1f%% outside the error bounds%n", regressions, thresholdPercent);
+        return regressions;
+    }
+
+    private static Map<String, Result> read(Path file) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            JsonNode primary = run.path("primaryMetric");
+            JsonNode alloc = allocNorm(run.path("secondaryMetrics"));
+            Result result = new Result(run.path("mode").asText(), primary.path("score").asDouble(), error(primary),
+                    alloc.path("score").asDouble(Double.NaN), error(alloc));
+            results.put(key(run), result);
+        }
+        return results;
+    }
+
+    private static String key(JsonNode run) {
+        StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+        Map<String, String> params = new TreeMap<>();
+        run.path("params").fields().forEachRemaining(p -> params.put(p.getKey(), p.getValue().asText()));
+        if (!params.isEmpty()) key.append(params);
+        return key.toString();
+    }
+
+    private static JsonNode allocNorm(JsonNode secondary) {
+        // JMH has published this metric both with and without a leading "·"
+        for (Iterator<String> names = secondary.fieldNames(); names.hasNext(); ) {
+            String name = names.next();
+            if (name.endsWith(ALLOC_NORM)) return secondary.path(name);
+        }
+        return MissingNode.getInstance();
+    }
+
+    private static double error(JsonNode metric) {
+        // a single-iteration run reports "NaN"; treat it as no error bound at all
+        double error = metric.path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    private static double percent(double delta, double base) {
+        return base == 0 ? 0 : delta * 100 / base;
+    }
+
+    private record Result(String mode, double score, double error, double allocNorm, double allocError) {
+        boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.netra.commons.benchmarks;
+
+import jakarta.validation.ConstraintValidatorContext;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link ConstraintValidatorContext} whose violation builders accept every call and discard the
+ * result, so validator benchmarks measure the rules rather than Hibernate Validator's bookkeeping.
+ */
+final class DiscardingValidatorContext {
+
+    private DiscardingValidatorContext() {
+    }
+
+    static ConstraintValidatorContext create() {
+        return (ConstraintValidatorContext) proxy(ConstraintValidatorContext.class, new ConcurrentHashMap<>());
+    }
+
+    // One proxy per builder interface: several of them declare addNode(String) with clashing return types.
+    private static Object proxy(Class<?> type, Map<Class<?>, Object> proxies) {
+        Object existing = proxies.get(type);
+        if (existing != null) return existing;
+        Object created = Proxy.newProxyInstance(DiscardingValidatorContext.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> "DiscardingValidatorContext";
+                };
+            }
+            Class<?> returnType = method.getReturnType();
+            if (returnType.isInterface()) return proxy(returnType, proxies);
+            if (returnType == boolean.class) return false;
+            return null;
+        });
+        proxies.put(type, created);
+        return created;
+    }
+}
@@ -0,0 +1,224 @@
+package com.netra.commons.benchmarks;
+
+import com.netra.commons.contracts.Disputant;
+import com.netra.commons.contracts.Domain;
+import com.netra.commons.enums.AccountType;
+import com.netra.commons.enums.DisputeAmountType;
+import com.netra.commons.enums.DisputeMode;
+import com.netra.commons.enums.EvidenceType;
+import com.netra.commons.enums.TransactionChannel;
+import com.netra.commons.enums.TransactionErrorType;
+import com.netra.commons.enums.TransactionInstrument;
+import com.netra.commons.enums.TransactionParticipationRole;
+import com.netra.commons.models.AccountDetail;
+import com.netra.commons.models.BaseEntity;
+import com.netra.commons.models.CardDTO;
+import com.netra.commons.models.CardScheme;
+import com.netra.commons.models.CustomerUser;
+import com.netra.commons.models.Evidence;
+import com.netra.commons.models.FinancialInstitution;
+import com.netra.commons.models.InstitutionUser;
+import com.netra.commons.models.Switcher;
+import com.netra.commons.models.Transaction;
+import com.netra.commons.models.TransactionParticipant;
+import com.netra.commons.models.TransactionType;
+import com.netra.commons.requests.CreateDisputeRequest;
+import com.netra.commons.requests.util.ChannelProviderSummaryDTO;
+import com.netra.commons.requests.util.TransactionRailDTO;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Seeded generators for realistic {@link CreateDisputeRequest} graphs, so every run and every
+ * library version benchmarks the same data.
+ */
+public final class DisputeRequestFixtures {
+
+    public enum InitiatorKind {
+        CUSTOMER,
+        INSTITUTION
+    }
+
+    private static final String[] BANKS = {"GTB", "ACCESS", "ZENITH", "UBA", "FIRST", "FIDELITY", "STANBIC", "WEMA"};
+    static final String[] TRANSACTION_TYPES = {"POS_PURCHASE", "ATM_WITHDRAWAL", "NIP_TRANSFER", "USSD_AIRTIME", "WEB_CHECKOUT"};
+    private static final String[] EXTENSIONS = {"jpg", "png", "pdf"};
+    // transaction dates and entity timestamps come from a fixed instant, not the wall clock
+    static final LocalDateTime REFERENCE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final Random random;
+
+    public DisputeRequestFixtures(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public List<CreateDisputeRequest> requests(int count, InitiatorKind initiator, int participants, int evidences) {
+        List<CreateDisputeRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(request(initiator, participants, evidences));
+        }
+        return requests;
+    }
+
+    /**
+     * A request that passes {@code DisputeRequestValidator}: an ISSUER is always present and, for
+     * institution initiators, an ACQUIRER as well.
+     */
+    public CreateDisputeRequest request(InitiatorKind initiator, int participants, int evidences) {
+        CreateDisputeRequest request = new CreateDisputeRequest();
+        AccountDetail account = account();
+
+        request.setInitiator(initiator == InitiatorKind.CUSTOMER ? customer(account) : institutionUser());
+        request.setTransaction(transaction());
+        request.setParticipants(participants(Math.max(participants, initiator == InitiatorKind.CUSTOMER ? 1 : 2), account));
+        request.setEvidences(evidences(initiator == InitiatorKind.CUSTOMER ? Math.max(1, evidences) : evidences));
+        request.setMode(pick(DisputeMode.values()));
+        request.setNote("Customer reports " + request.getTransaction().getErrorType().name().toLowerCase() + " on " + request.getTransaction().getTransactionRef());
+        request.setAccountDetail(account);
+
+        if (random.nextBoolean()) {
+            request.setDisputeAmountType(DisputeAmountType.PARTIAL);
+            request.setDisputedAmount(request.getTransaction().getAmount().divide(BigDecimal.valueOf(2), 2, RoundingMode.HALF_UP));
+        } else {
+            request.setDisputeAmountType(DisputeAmountType.FULL);
+        }
+        return request;
+    }
+
+    private Disputant customer(AccountDetail account) {
+        CustomerUser user = stamped(new CustomerUser());
+        user.setId(random.nextLong(1, Long.MAX_VALUE));
+        user.setName("Customer " + random.nextInt(1_000_000));
+        user.setDisabled(false);
+        user.setUserPhone("080" + digits(8));
+        user.setUserEmail("user" + random.nextInt(1_000_000) + "@example.com");
+        user.setAccounts(List.of(account));
+        return user;
+    }
+
+    private Disputant institutionUser() {
+        InstitutionUser user = stamped(new InstitutionUser());
+        user.setId(random.nextLong(1, Long.MAX_VALUE));
+        user.setName("Ops " + random.nextInt(10_000));
+        user.setDisabled(false);
+        user.setInstitution(bank());
+        user.setEmail("ops" + random.nextInt(10_000) + "@bank.example");
+        return user;
+    }
+
+    private Transaction transaction() {
+        Transaction transaction = stamped(new Transaction());
+        transaction.setId(random.nextLong(1, Long.MAX_VALUE));
+        transaction.setTransactionRef("TXN" + digits(12));
+        transaction.setTransactionDate(REFERENCE_TIME.minusMinutes(random.nextInt(60 * 24 * 30)));
+        transaction.setAmount(BigDecimal.valueOf(random.nextInt(100, 5_000_000), 2));
+        transaction.setErrorType(pick(TransactionErrorType.values()));
+        transaction.setRetrievalReferenceNumber(digits(12));
+        transaction.setStan(digits(6));
+        transaction.setTransactionCurrencyCode("NGN");
+
+        TransactionType type = stamped(new TransactionType());
+        String code = pick(TRANSACTION_TYPES);
+        type.setCode(code);
+        type.setName(code.replace('_', ' '));
+        type.setDisabled(false);
+        transaction.setTransactionType(type);
+
+        TransactionRailDTO rail = new TransactionRailDTO();
+        rail.setInstrument(pick(TransactionInstrument.values()));
+        rail.setInstrumentId("TID" + digits(8));
+        rail.setChannel(pick(TransactionChannel.values()));
+        ChannelProviderSummaryDTO provider = new ChannelProviderSummaryDTO();
+        provider.setName("Interswitch");
+        provider.setCode("SW001");
+        rail.setChannelProvider(provider);
+        transaction.setTransactionRailDTO(rail);
+        return transaction;
+    }
+
+    private List<TransactionParticipant> participants(int count, AccountDetail account) {
+        List<TransactionParticipant> participants = new ArrayList<>(count);
+        TransactionParticipationRole[] roles = TransactionParticipationRole.values();
+        for (int i = 0; i < count; i++) {
+            TransactionParticipationRole role = i < roles.length ? roles[i] : pick(roles);
+            TransactionParticipant participant = stamped(new TransactionParticipant());
+            participant.setTransactionParticipationRole(role);
+            participant.setParticipant(role == TransactionParticipationRole.SWITCHER ? switcher() : bank());
+            if (role == TransactionParticipationRole.ISSUER) {
+                participant.setAccountDetail(account);
+            }
+            participants.add(participant);
+        }
+        return participants;
+    }
+
+    private List<Evidence> evidences(int count) {
+        List<Evidence> evidences = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Evidence evidence = stamped(new Evidence());
+            evidence.setEvidenceType(pick(EvidenceType.values()));
+            evidence.setUuid(new UUID(random.nextLong(), random.nextLong()).toString());
+            evidence.setExtension(pick(EXTENSIONS));
+            evidence.setS3Key("evidence/" + evidence.getUuid() + "." + evidence.getExtension());
+            evidence.setOriginalFilename("receipt-" + i + "." + evidence.getExtension());
+            evidence.setContentType("pdf".equals(evidence.getExtension()) ? "application/pdf" : "image/" + evidence.getExtension());
+            evidence.setSize((long) random.nextInt(20_000, 4_000_000));
+            evidences.add(evidence);
+        }
+        return evidences;
+    }
+
+    private AccountDetail account() {
+        AccountDetail account = stamped(new AccountDetail());
+        account.setAccountNumber(digits(10));
+        account.setAccountType(pick(AccountType.values()));
+        account.setRegisteredPhone("081" + digits(8));
+        account.setRegisteredEmail("holder" + random.nextInt(1_000_000) + "@example.com");
+        account.setIssuingInstitution(bank());
+        CardDTO card = new CardDTO();
+        card.setCardScheme(pick(CardScheme.values()));
+        card.setFirstFourDigits(digits(4));
+        card.setLastFourDigits(digits(4));
+        account.setCard(card);
+        return account;
+    }
+
+    private FinancialInstitution bank() {
+        String code = pick(BANKS);
+        FinancialInstitution institution = stamped(new FinancialInstitution());
+        institution.setCode(code);
+        institution.setName(code + " Bank");
+        institution.setDomainCode("BANK_" + code);
+        institution.setDisabled(false);
+        return institution;
+    }
+
+    private Domain switcher() {
+        Switcher switcher = stamped(new Switcher());
+        switcher.setCode("SW001");
+        switcher.setName("Interswitch");
+        switcher.setDomainCode("SWITCH_ISW");
+        switcher.setDisabled(false);
+        return switcher;
+    }
+
+    private static <T extends BaseEntity> T stamped(T entity) {
+        entity.setCreatedAt(REFERENCE_TIME);
+        return entity;
+    }
+
+    private String digits(int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) chars[i] = (char) ('0' + random.nextInt(10));
+        return new String(chars);
+    }
+
+    private <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
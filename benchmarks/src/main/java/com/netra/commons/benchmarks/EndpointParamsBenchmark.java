@@ -0,0 +1,53 @@
+package com.netra.commons.benchmarks;
+
+import com.netra.commons.models.EndpointConfig;
+import com.netra.commons.models.EndpointConfig.ParamSeparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(3)
+public class EndpointParamsBenchmark {
+
+    @Param({"3", "12"})
+    public int paramCount;
+
+    private List<String> params;
+    private String joined;
+
+    @Setup
+    public void setUp() {
+        params = new ArrayList<>(paramCount);
+        for (int i = 0; i < paramCount; i++) {
+            params.add(i % 2 == 0 ? "retrievalReferenceNumber" + i : "stan" + i);
+        }
+        joined = EndpointConfig.joinParams(params, ParamSeparator.UNIQUE_PARAM_SEPARATOR);
+    }
+
+    @Benchmark
+    public List<String> parseParams() {
+        return EndpointConfig.parseParams(joined, ParamSeparator.UNIQUE_PARAM_SEPARATOR);
+    }
+
+    @Benchmark
+    public String joinParams() {
+        return EndpointConfig.joinParams(params, ParamSeparator.UNIQUE_PARAM_SEPARATOR);
+    }
+}
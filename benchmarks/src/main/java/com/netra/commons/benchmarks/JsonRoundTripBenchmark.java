@@ -0,0 +1,88 @@
+package com.netra.commons.benchmarks;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.netra.commons.contracts.Disputant;
+import com.netra.commons.contracts.Domain;
+import com.netra.commons.requests.CreateDisputeRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(3)
+public class JsonRoundTripBenchmark {
+
+    // Disputant and Domain are interfaces; services carry the concrete type the same way
+    @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+    interface PolymorphicMixin {
+    }
+
+    static final ObjectMapper MAPPER = JsonMapper.builder()
+            .findAndAddModules()
+            .addMixIn(Disputant.class, PolymorphicMixin.class)
+            .addMixIn(Domain.class, PolymorphicMixin.class)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    @Param({"CUSTOMER", "INSTITUTION"})
+    public DisputeRequestFixtures.InitiatorKind initiator;
+
+    @Param({"1", "10"})
+    public int evidences;
+
+    private List<CreateDisputeRequest> requests;
+    private List<String> payloads;
+    private int next;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        requests = new DisputeRequestFixtures(42).requests(256, initiator, 3, evidences);
+        payloads = new ArrayList<>(requests.size());
+        for (CreateDisputeRequest request : requests) {
+            payloads.add(MAPPER.writeValueAsString(request));
+        }
+    }
+
+    @Benchmark
+    public String serialize() throws JsonProcessingException {
+        return MAPPER.writeValueAsString(requests.get(advance()));
+    }
+
+    @Benchmark
+    public CreateDisputeRequest deserialize() throws JsonProcessingException {
+        return MAPPER.readValue(payloads.get(advance()), CreateDisputeRequest.class);
+    }
+
+    @Benchmark
+    public CreateDisputeRequest roundTrip() throws JsonProcessingException {
+        return MAPPER.readValue(MAPPER.writeValueAsString(requests.get(advance())), CreateDisputeRequest.class);
+    }
+
+    private int advance() {
+        int current = next;
+        next = (next + 1) & 255;
+        return current;
+    }
+}
@@ -0,0 +1,58 @@
+package com.netra.commons.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Runs JMH with the gc profiler and JSON output unless told
+ * otherwise, and with {@code -baseline <file> [-threshold <percent>]} compares the run to a stored
+ * result via {@link BenchmarkComparison}, exiting with 1 on regression.
+ */
+public final class NetraBenchmarks {
+
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    private NetraBenchmarks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path baseline = null;
+        double threshold = 10;
+        List<String> jmhArgs = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if ("-baseline".equals(args[i]) && i + 1 < args.length) {
+                baseline = Path.of(args[++i]);
+            } else if ("-threshold".equals(args[i]) && i + 1 < args.length) {
+                threshold = Double.parseDouble(args[++i]);
+            } else {
+                jmhArgs.add(args[i]);
+            }
+        }
+
+        CommandLineOptions cli = new CommandLineOptions(jmhArgs.toArray(new String[0]));
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cli);
+        if (cli.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!cli.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        String resultFile = cli.getResult().orElse(DEFAULT_RESULT_FILE);
+        options.result(resultFile);
+
+        new Runner(options.build()).run();
+
+        if (baseline != null) {
+            int regressions = BenchmarkComparison.compare(baseline, Path.of(resultFile), threshold, System.out);
+            System.exit(regressions == 0 ? 0 : 1);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.netra.commons.benchmarks;
+
+import com.netra.commons.partitioning.ConsistentHashRing;
+import com.netra.commons.partitioning.DisputePartitioner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HexFormat;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(3)
+public class PartitionerBenchmark {
+
+    @Param({"3", "16", "64"})
+    public int members;
+
+    @Param({"160"})
+    public int virtualNodesPerWeight;
+
+    private DisputePartitioner<String> partitioner;
+    private String[] disputeKeys;
+    private String[] issuerCodes;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>(Function.identity(), virtualNodesPerWeight);
+        for (int i = 0; i < members; i++) {
+            ring.addMember("node-" + i + ":8080", 1 + i % 3);
+        }
+        partitioner = new DisputePartitioner<>(ring, DisputePartitioner.Affinity.DISPUTE);
+
+        Random random = new Random(42);
+        disputeKeys = new String[1024];
+        issuerCodes = new String[1024];
+        byte[] digest = new byte[32];
+        for (int i = 0; i < disputeKeys.length; i++) {
+            random.nextBytes(digest);
+            disputeKeys[i] = HexFormat.of().formatHex(digest);
+            issuerCodes[i] = "FI" + random.nextInt(400);
+        }
+    }
+
+    @Benchmark
+    public String forDisputeKey() {
+        String key = disputeKeys[next];
+        next = (next + 1) & 1023;
+        return partitioner.forDisputeKey(key);
+    }
+
+    @Benchmark
+    public String forIssuer() {
+        String code = issuerCodes[next];
+        next = (next + 1) & 1023;
+        return partitioner.forIssuer(code);
+    }
+}
@@ -0,0 +1,82 @@
+package com.netra.commons.benchmarks;
+
+import com.netra.commons.partitioning.ConsistentHashRing;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Simulates clusters inside one JVM and prints, per cluster size and virtual-node count, the load
+ * skew (max member share over its weighted fair share) and the fraction of keys that move when one
+ * member joins or leaves. Ideal movement is {@code 1/(n+1)} on join and {@code 1/n} on leave.
+ *
+ * Usage: {@code java -cp benchmarks.jar com.netra.commons.benchmarks.RingSkewReport [keys]}
+ */
+public final class RingSkewReport {
+
+    private RingSkewReport() {
+    }
+
+    public static void main(String[] args) {
+        int keyCount = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        long[] keys = new long[keyCount];
+        Random random = new Random(7);
+        for (int i = 0; i < keyCount; i++) keys[i] = random.nextLong();
+
+        System.out.printf("%8s %8s %10s %12s %12s %12s %12s%n",
+                "members", "vnodes", "maxSkew", "joinMoved", "joinIdeal", "leaveMoved", "leaveIdeal");
+        for (int members : new int[]{3, 8, 32, 128}) {
+            for (int vnodes : new int[]{16, 64, 160, 512}) {
+                ConsistentHashRing<String> ring = new ConsistentHashRing<>(Function.identity(), vnodes);
+                int totalWeight = 0;
+                for (int i = 0; i < members; i++) {
+                    int weight = 1 + i % 3;
+                    ring.addMember("node-" + i, weight);
+                    totalWeight += weight;
+                }
+
+                String[] before = assign(ring, keys);
+                double skew = maxSkew(ring, before, totalWeight);
+
+                ring.addMember("node-new", 1);
+                double joinMoved = moved(before, assign(ring, keys));
+                ring.removeMember("node-new");
+
+                ring.removeMember("node-0");
+                double leaveMoved = moved(before, assign(ring, keys));
+
+                System.out.printf("%8d %8d %10.3f %12.4f %12.4f %12.4f %12.4f%n",
+                        members, vnodes, skew,
+                        joinMoved, 1.0 / (totalWeight + 1),
+                        leaveMoved, 1.0 / totalWeight);
+            }
+        }
+    }
+
+    private static String[] assign(ConsistentHashRing<String> ring, long[] keys) {
+        String[] owners = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) owners[i] = ring.locate(keys[i]);
+        return owners;
+    }
+
+    private static double maxSkew(ConsistentHashRing<String> ring, String[] owners, int totalWeight) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String owner : owners) counts.merge(owner, 1, Integer::sum);
+        double worst = 0;
+        for (Map.Entry<String, Integer> member : ring.members().entrySet()) {
+            double fair = (double) owners.length * member.getValue() / totalWeight;
+            worst = Math.max(worst, counts.getOrDefault(member.getKey(), 0) / fair);
+        }
+        return worst;
+    }
+
+    private static double moved(String[] before, String[] after) {
+        int moved = 0;
+        for (int i = 0; i < before.length; i++) {
+            if (!before[i].equals(after[i])) moved++;
+        }
+        return (double) moved / before.length;
+    }
+}
@@ -0,0 +1,187 @@
+package com.netra.commons.benchmarks;
+
+import com.netra.commons.autoconfigure.NetraCommonsAutoConfiguration;
+import com.netra.commons.contracts.Domain;
+import com.netra.commons.enums.EvidenceType;
+import com.netra.commons.enums.TransactionErrorType;
+import com.netra.commons.models.Currency;
+import com.netra.commons.models.TransactionType;
+import com.netra.commons.models.TriageDecisionRule;
+import com.netra.commons.reference.ReferenceDataRegistry;
+import com.netra.commons.reference.ReferenceDataSource;
+import com.netra.commons.requests.CreateDisputeRequest;
+import com.netra.commons.validators.DisputeRequestValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold-start cost of a service embedding the library, against the same service wired by hand.
+ *
+ * Both wirings run Spring Boot's auto-configuration, so the difference is the library's own.
+ * {@code HAND_WIRED} is what a service did before {@link NetraCommonsAutoConfiguration}: it is
+ * excluded and the service declares the reference data registry itself, loaded in its bean method
+ * so the context is ready with every triage rule compiled. {@code AUTO_CONFIGURED} runs the
+ * library's auto-configuration as shipped, with no optional component enabled since this service
+ * uses none, and reference data loading in the background after readiness.
+ *
+ * {@link #ready} times the context start alone, which is where background loading pays off;
+ * {@link #firstTriage} also validates and triages one dispute, so it includes the reference load
+ * under both wirings and shows what the first request still waits for. Each invocation starts a
+ * fresh context; the one it leaves is closed, after its background load finishes, outside the timing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(3)
+public class StartupBenchmark {
+
+    public enum Wiring {
+        HAND_WIRED,
+        AUTO_CONFIGURED
+    }
+
+    @Param({"HAND_WIRED", "AUTO_CONFIGURED"})
+    public Wiring wiring;
+
+    @Param({"200"})
+    public int rulesPerTransactionType;
+
+    private CreateDisputeRequest request;
+    private ConfigurableApplicationContext context;
+
+    @Setup
+    public void setUp() {
+        request = new DisputeRequestFixtures(42).requests(1, DisputeRequestFixtures.InitiatorKind.CUSTOMER, 2, 2).get(0);
+        ReferenceData.rulesPerTransactionType = rulesPerTransactionType;
+    }
+
+    @Benchmark
+    public ConfigurableApplicationContext ready() {
+        context = start();
+        return context;
+    }
+
+    @Benchmark
+    public Object firstTriage() {
+        context = start();
+        new DisputeRequestValidator().isValid(request, DiscardingValidatorContext.create());
+        ReferenceDataRegistry registry = context.getBean(ReferenceDataRegistry.class);
+        return registry.triageEvaluator(request.getTransaction().getTransactionType()).evaluate(request);
+    }
+
+    @TearDown(Level.Invocation)
+    public void close() throws InterruptedException {
+        if (context == null) return;
+        // let a background load finish so it does not eat into the next invocation
+        context.getBean(ReferenceDataRegistry.class).awaitLoaded(Duration.ofMinutes(1));
+        context.close();
+        context = null;
+    }
+
+    private ConfigurableApplicationContext start() {
+        Class<?> application = wiring == Wiring.HAND_WIRED ? HandWiredApplication.class : AutoConfiguredApplication.class;
+        return new SpringApplicationBuilder(application)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties("spring.main.banner-mode=off")
+                .run();
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = NetraCommonsAutoConfiguration.class)
+    static class HandWiredApplication {
+
+        @Bean
+        ReferenceDataRegistry referenceDataRegistry() {
+            ReferenceDataRegistry registry = new ReferenceDataRegistry(ReferenceData.source());
+            registry.load();
+            return registry;
+        }
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    static class AutoConfiguredApplication {
+
+        @Bean
+        ReferenceDataSource referenceDataSource() {
+            return ReferenceData.source();
+        }
+    }
+
+    static final class ReferenceData {
+
+        static volatile int rulesPerTransactionType;
+
+        private ReferenceData() {
+        }
+
+        static ReferenceDataSource source() {
+            return new ReferenceDataSource() {
+                @Override
+                public List<Currency> currencies() {
+                    return List.of();
+                }
+
+                @Override
+                public List<Domain> domains() {
+                    return List.of();
+                }
+
+                @Override
+                public List<TransactionType> transactionTypes() {
+                    List<TransactionType> types = new ArrayList<>();
+                    for (String code : DisputeRequestFixtures.TRANSACTION_TYPES) {
+                        TransactionType type = new TransactionType();
+                        type.setCode(code);
+                        type.setTriageDecisionRules(rules(code, rulesPerTransactionType));
+                        types.add(type);
+                    }
+                    return types;
+                }
+            };
+        }
+
+        private static List<TriageDecisionRule> rules(String code, int count) {
+            TransactionErrorType[] errors = TransactionErrorType.values();
+            EvidenceType[] evidences = EvidenceType.values();
+            List<TriageDecisionRule> rules = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                TriageDecisionRule rule = new TriageDecisionRule();
+                rule.setName(code + "-" + i);
+                rule.setDisabled(false);
+                rule.setNextQueue("QUEUE_" + (i % 7));
+                rule.setJsonLogic("{\"and\":["
+                        + "{\"==\":[{\"var\":\"transaction.errorType\"},\"" + errors[i % errors.length] + "\"]},"
+                        + "{\"in\":[\"" + evidences[i % evidences.length] + "\",{\"var\":\"evidenceTypes\"}]},"
+                        + "{\">\":[{\"var\":\"disputedAmount\"}," + (i * 1000) + "]}]}");
+                rules.add(rule);
+            }
+            return rules;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.netra.commons.benchmarks;
+
+import com.netra.commons.requests.CreateDisputeRequest;
+import com.netra.commons.validators.DisputeRequestValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(3)
+public class ValidatorBenchmark {
+
+    @Param({"CUSTOMER", "INSTITUTION"})
+    public DisputeRequestFixtures.InitiatorKind initiator;
+
+    @Param({"2", "6"})
+    public int participants;
+
+    @Param({"1", "10"})
+    public int evidences;
+
+    private final DisputeRequestValidator validator = new DisputeRequestValidator();
+    private final ConstraintValidatorContext context = DiscardingValidatorContext.create();
+    private List<CreateDisputeRequest> requests;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        requests = new DisputeRequestFixtures(42).requests(1024, initiator, participants, evidences);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(nextRequest(), context);
+    }
+
+    private CreateDisputeRequest nextRequest() {
+        CreateDisputeRequest request = requests.get(next);
+        next = (next + 1) & 1023;
+        return request;
+    }
+}
@@ -0,0 +1,89 @@
+package com.netra.commons.benchmarks;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BenchmarkComparisonTest {
+
+    @TempDir
+    Path dir;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @Test
+    void flagsSlowdownOutsideErrorBounds() throws IOException {
+        Path baseline = results("baseline", run("avgt", 100, 2, 480, 1));
+        Path current = results("current", run("avgt", 130, 3, 480, 1));
+
+        assertThat(compare(baseline, current)).isEqualTo(1);
+        assertThat(output.toString(StandardCharsets.UTF_8)).contains("REGRESSION");
+    }
+
+    @Test
+    void ignoresSlowdownWithinOverlappingErrorBounds() throws IOException {
+        Path baseline = results("baseline", run("avgt", 100, 15, 480, 1));
+        Path current = results("current", run("avgt", 120, 10, 480, 1));
+
+        assertThat(compare(baseline, current)).isZero();
+    }
+
+    @Test
+    void ignoresSignificantChangeBelowThreshold() throws IOException {
+        Path baseline = results("baseline", run("avgt", 100, 0.1, 480, 1));
+        Path current = results("current", run("avgt", 105, 0.1, 480, 1));
+
+        assertThat(compare(baseline, current)).isZero();
+    }
+
+    @Test
+    void throughputDropIsSlower() throws IOException {
+        Path baseline = results("baseline", run("thrpt", 1000, 10, 480, 1));
+        Path current = results("current", run("thrpt", 800, 10, 480, 1));
+
+        assertThat(compare(baseline, current)).isEqualTo(1);
+        assertThat(compare(current, baseline)).isZero();
+    }
+
+    @Test
+    void flagsAllocationGrowthOutsideErrorBounds() throws IOException {
+        Path baseline = results("baseline", run("avgt", 100, 1, 480, 0.5));
+        Path current = results("current", run("avgt", 100, 1, 640, 0.5));
+
+        assertThat(compare(baseline, current)).isEqualTo(1);
+    }
+
+    @Test
+    void singleIterationRunsHaveNoErrorBound() throws IOException {
+        Path baseline = results("baseline", run("avgt", 100, Double.NaN, 480, Double.NaN));
+        Path current = results("current", run("avgt", 130, Double.NaN, 480, Double.NaN));
+
+        assertThat(compare(baseline, current)).isEqualTo(1);
+    }
+
+    private int compare(Path baseline, Path current) throws IOException {
+        return BenchmarkComparison.compare(baseline, current, 10, new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    private Path results(String name, String run) throws IOException {
+        return Files.writeString(dir.resolve(name + ".json"), "[" + run + "]");
+    }
+
+    private static String run(String mode, double score, double error, double allocNorm, double allocError) {
+        return """
+                {"benchmark": "com.netra.commons.benchmarks.ValidatorBenchmark.validate",
+                 "mode": "%s",
+                 "params": {"participants": "4"},
+                 "primaryMetric": {"score": %s, "scoreError": "%s"},
+                 "secondaryMetrics": {"·gc.alloc.rate.norm": {"score": %s, "scoreError": "%s"}}}
+                """.formatted(mode, score, error, allocNorm, allocError);
+    }
+}
@@ -0,0 +1,28 @@
+package com.netra.commons.benchmarks;
+
+import com.netra.commons.requests.CreateDisputeRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DisputeRequestFixturesTest {
+
+    @Test
+    void sameSeedGeneratesSameRequests() {
+        List<CreateDisputeRequest> first = new DisputeRequestFixtures(42).requests(20, DisputeRequestFixtures.InitiatorKind.INSTITUTION, 3, 2);
+        List<CreateDisputeRequest> second = new DisputeRequestFixtures(42).requests(20, DisputeRequestFixtures.InitiatorKind.INSTITUTION, 3, 2);
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void transactionDatesDoNotFollowTheWallClock() {
+        List<CreateDisputeRequest> requests = new DisputeRequestFixtures(7).requests(50, DisputeRequestFixtures.InitiatorKind.CUSTOMER, 1, 1);
+
+        assertThat(requests).allSatisfy(request -> assertThat(request.getTransaction().getTransactionDate())
+                .isBeforeOrEqualTo(DisputeRequestFixtures.REFERENCE_TIME)
+                .isAfter(DisputeRequestFixtures.REFERENCE_TIME.minusDays(31)));
+    }
+}
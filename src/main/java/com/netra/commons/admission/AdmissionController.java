@@ -0,0 +1,172 @@
+package com.netra.commons.admission;
+
+import com.netra.commons.contracts.Disputant;
+import com.netra.commons.enums.DisputantType;
+import com.netra.commons.enums.DisputeMode;
+import com.netra.commons.models.BaseEntity;
+import com.netra.commons.models.FinancialInstitution;
+import com.netra.commons.models.InstitutionUser;
+import com.netra.commons.requests.CreateDisputeRequest;
+import com.netra.commons.util.LongHash;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Token-bucket admission control for dispute creation, applied before validation and triage so a
+ * flooding disputant cannot crowd out everyone else.
+ *
+ * A request must get a permit from each configured limit, checked from most to least specific:
+ * its disputant, its {@link FinancialInstitution} (the institution user's own, otherwise the
+ * customer account's issuer) and its {@link DisputantType}. Permits already taken are returned
+ * when a later limit rejects. Requests matching the priority predicate (by default institution
+ * CHARGEBACKs) run in a separate lane: they draw on the priority limit instead of their type's, and
+ * on a per-institution bucket separate from standard traffic, so a customer INQUIRY flood against
+ * a bank cannot starve that bank's chargebacks.
+ *
+ * Deciding allocates nothing: buckets are single longs in striped primitive tables (see
+ * {@link RateLimiterTable} and {@link com.netra.commons.util.StripedLongTable}) or, for the few shared type buckets, a CAS on an atomic.
+ */
+public class AdmissionController {
+
+    public static final Predicate<CreateDisputeRequest> INSTITUTION_CHARGEBACKS = request ->
+            request.getMode() == DisputeMode.CHARGEBACK
+                    && request.getInitiator() != null
+                    && request.getInitiator().getDisputantType() == DisputantType.INSTITUTIONUSER;
+
+    private static final DisputantType[] TYPES = DisputantType.values();
+    private static final AdmissionDecision[] DECISIONS = AdmissionDecision.values();
+
+    private final RateLimiterTable disputants;
+    private final RateLimiterTable institutions;
+    private final SharedBucket[] types = new SharedBucket[TYPES.length];
+    private final SharedBucket priorityLane;
+    private final Predicate<CreateDisputeRequest> priority;
+    private final LongSupplier nanoTime;
+    private final long origin;
+    private final LongAdder[] decisions = new LongAdder[DECISIONS.length];
+
+    /**
+     * Any limit may be null to leave that level unlimited; {@code capacity} bounds the buckets kept
+     * per level.
+     */
+    public AdmissionController(RateLimit perDisputant,
+                               RateLimit perInstitution,
+                               Map<DisputantType, RateLimit> perType,
+                               RateLimit priorityLane,
+                               int capacity) {
+        this(perDisputant, perInstitution, perType, priorityLane, INSTITUTION_CHARGEBACKS, capacity,
+                Runtime.getRuntime().availableProcessors() * 4, System::nanoTime);
+    }
+
+    public AdmissionController(RateLimit perDisputant,
+                               RateLimit perInstitution,
+                               Map<DisputantType, RateLimit> perType,
+                               RateLimit priorityLane,
+                               Predicate<CreateDisputeRequest> priority,
+                               int capacity,
+                               int concurrency,
+                               LongSupplier nanoTime) {
+        if (capacity <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException("Capacity and concurrency must be positive");
+        }
+        this.disputants = perDisputant == null ? null : new RateLimiterTable(perDisputant, capacity, concurrency);
+        this.institutions = perInstitution == null ? null : new RateLimiterTable(perInstitution, capacity, concurrency);
+        if (perType != null) {
+            perType.forEach((type, limit) -> types[type.ordinal()] = limit == null ? null : new SharedBucket(limit));
+        }
+        this.priorityLane = priorityLane == null ? null : new SharedBucket(priorityLane);
+        this.priority = priority;
+        this.nanoTime = nanoTime;
+        // bucket state 0 must read as "full", so time starts above it
+        this.origin = nanoTime.getAsLong() - 1;
+        for (int i = 0; i < decisions.length; i++) {
+            decisions[i] = new LongAdder();
+        }
+    }
+
+    public AdmissionDecision admit(CreateDisputeRequest request) {
+        long now = nanoTime.getAsLong() - origin;
+        boolean prioritised = priority != null && priority.test(request);
+        Disputant initiator = request.getInitiator();
+
+        long disputantKey = disputantKey(initiator);
+        if (disputants != null && !disputants.tryAcquire(disputantKey, now)) {
+            return record(AdmissionDecision.DISPUTANT_LIMITED);
+        }
+
+        FinancialInstitution institution = institution(request);
+        long institutionKey = institution == null ? 0 : LongHash.combine(LongHash.hash(institution.getCode()), prioritised ? 1 : 0);
+        boolean institutionLimited = institutions != null && institution != null;
+        if (institutionLimited && !institutions.tryAcquire(institutionKey, now)) {
+            if (disputants != null) disputants.release(disputantKey);
+            return record(AdmissionDecision.INSTITUTION_LIMITED);
+        }
+
+        // an initiator without a type has no type bucket, as it has no type in disputantKey
+        DisputantType type = initiator == null ? null : initiator.getDisputantType();
+        SharedBucket shared = prioritised ? priorityLane : type == null ? null : types[type.ordinal()];
+        if (shared != null && !shared.tryAcquire(now)) {
+            if (disputants != null) disputants.release(disputantKey);
+            if (institutionLimited) institutions.release(institutionKey);
+            return record(AdmissionDecision.DISPUTANT_TYPE_LIMITED);
+        }
+        return record(AdmissionDecision.ADMITTED);
+    }
+
+    public long count(AdmissionDecision decision) {
+        return decisions[decision.ordinal()].sum();
+    }
+
+    /**
+     * Live buckets overwritten because a probe run was full; growth means {@code capacity} is too small.
+     */
+    public long evictions() {
+        return (disputants == null ? 0 : disputants.evictions()) + (institutions == null ? 0 : institutions.evictions());
+    }
+
+    private AdmissionDecision record(AdmissionDecision decision) {
+        decisions[decision.ordinal()].increment();
+        return decision;
+    }
+
+    private static long disputantKey(Disputant initiator) {
+        if (initiator == null) return LongHash.hash(null);
+        long type = initiator.getDisputantType() == null ? 0 : initiator.getDisputantType().ordinal() + 1;
+        if (initiator instanceof BaseEntity entity && entity.getId() != null) {
+            return LongHash.combine(type, entity.getId());
+        }
+        return LongHash.combine(type, LongHash.hash(initiator.getName()));
+    }
+
+    private static FinancialInstitution institution(CreateDisputeRequest request) {
+        if (request.getInitiator() instanceof InstitutionUser user) {
+            return user.getInstitution();
+        }
+        return request.getAccountDetail() == null ? null : request.getAccountDetail().getIssuingInstitution();
+    }
+
+    // GCRA bucket shared by a whole class of traffic; lock-free since it is hot under contention.
+    private static final class SharedBucket {
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final AtomicLong tat = new AtomicLong();
+
+        private SharedBucket(RateLimit limit) {
+            this.intervalNanos = limit.intervalNanos();
+            this.toleranceNanos = limit.toleranceNanos();
+        }
+
+        private boolean tryAcquire(long now) {
+            while (true) {
+                long current = tat.get();
+                long base = Math.max(current, now);
+                if (base - now > toleranceNanos) return false;
+                if (tat.compareAndSet(current, base + intervalNanos)) return true;
+            }
+        }
+    }
+}
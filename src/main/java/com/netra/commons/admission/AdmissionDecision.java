@@ -0,0 +1,16 @@
+package com.netra.commons.admission;
+
+/**
+ * Outcome of {@link AdmissionController#admit}; anything but {@link #ADMITTED} names the limit that
+ * rejected the request.
+ */
+public enum AdmissionDecision {
+    ADMITTED,
+    DISPUTANT_LIMITED,
+    INSTITUTION_LIMITED,
+    DISPUTANT_TYPE_LIMITED;
+
+    public boolean isAdmitted() {
+        return this == ADMITTED;
+    }
+}
@@ -0,0 +1,44 @@
+package com.netra.commons.admission;
+
+/**
+ * A token-bucket limit: {@code permitsPerSecond} sustained, with bursts of up to {@code burst}.
+ * Held as the equivalent GCRA parameters so a bucket is a single long of state.
+ */
+public final class RateLimit {
+
+    private final double permitsPerSecond;
+    private final int burst;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+
+    public RateLimit(double permitsPerSecond, int burst) {
+        if (!(permitsPerSecond > 0) || burst <= 0) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / permitsPerSecond));
+        this.toleranceNanos = intervalNanos * (burst - 1);
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    long intervalNanos() {
+        return intervalNanos;
+    }
+
+    long toleranceNanos() {
+        return toleranceNanos;
+    }
+
+    @Override
+    public String toString() {
+        return permitsPerSecond + "/s burst " + burst;
+    }
+}
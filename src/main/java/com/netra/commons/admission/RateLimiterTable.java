@@ -0,0 +1,63 @@
+package com.netra.commons.admission;
+
+import com.netra.commons.util.StripedLongTable;
+
+/**
+ * Per-key GCRA buckets in a {@link StripedLongTable}.
+ *
+ * A bucket is just its theoretical arrival time; one that has fully refilled ({@code tat <= now})
+ * carries no information, so its slot is reused by the next key that probes it. That is the idle
+ * eviction: memory stays at the configured capacity however many keys pass through. Only when a
+ * probe run holds no idle slot is a live bucket (the fullest one) overwritten.
+ */
+final class RateLimiterTable implements StripedLongTable.Policy {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final StripedLongTable table;
+
+    RateLimiterTable(RateLimit limit, int capacity, int concurrency) {
+        this.intervalNanos = limit.intervalNanos();
+        this.toleranceNanos = limit.toleranceNanos();
+        this.table = new StripedLongTable(capacity, concurrency, this);
+    }
+
+    boolean tryAcquire(long key, long now) {
+        long tat = table.update(key, now);
+        return tat == StripedLongTable.ABSENT || admits(tat, now);
+    }
+
+    /**
+     * Returns a permit taken by {@link #tryAcquire} when a later limit rejected the request.
+     */
+    void release(long key) {
+        table.add(key, -intervalNanos);
+    }
+
+    long evictions() {
+        return table.evictions();
+    }
+
+    int capacity() {
+        return table.capacity();
+    }
+
+    @Override
+    public long onHit(long tat, long now) {
+        return admits(tat, now) ? Math.max(tat, now) + intervalNanos : tat;
+    }
+
+    @Override
+    public long onInsert(long now) {
+        return now + intervalNanos;
+    }
+
+    @Override
+    public boolean isIdle(long tat, long now) {
+        return tat <= now;
+    }
+
+    private boolean admits(long tat, long now) {
+        return Math.max(tat, now) - now <= toleranceNanos;
+    }
+}
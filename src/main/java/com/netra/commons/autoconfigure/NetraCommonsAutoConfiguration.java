@@ -0,0 +1,151 @@
+package com.netra.commons.autoconfigure;
+
+import com.netra.commons.admission.AdmissionController;
+import com.netra.commons.admission.RateLimit;
+import com.netra.commons.bin.BinLookupService;
+import com.netra.commons.detection.DuplicateDebitDetector;
+import com.netra.commons.enums.DisputantType;
+import com.netra.commons.instrumentation.Instrumentation;
+import com.netra.commons.instrumentation.MicrometerLibraryMetrics;
+import com.netra.commons.models.FinancialInstitution;
+import com.netra.commons.reference.ReferenceDataRegistry;
+import com.netra.commons.reference.ReferenceDataSource;
+import com.netra.commons.scheduling.DeadlineListener;
+import com.netra.commons.scheduling.DisputeDeadlineScheduler;
+import com.netra.commons.search.DisputeSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.annotation.Lazy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Registers the library's components for Spring Boot applications.
+ *
+ * Every component is opt-in through {@code netra.commons.*} (see {@link NetraCommonsProperties}) or
+ * the presence of the bean it serves, backs off when the application defines its own, and is
+ * {@link Lazy}: tables, files and threads are only allocated when something first injects or looks
+ * the component up, not while the context starts. Reference data loads after readiness.
+ */
+@AutoConfiguration(afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@EnableConfigurationProperties(NetraCommonsProperties.class)
+@ImportRuntimeHints(NetraCommonsRuntimeHints.class)
+public class NetraCommonsAutoConfiguration {
+
+    @Bean
+    @Lazy
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "netra.commons.bin", name = "table")
+    public BinLookupService binLookupService(NetraCommonsProperties properties, ObjectProvider<ReferenceDataRegistry> registry) {
+        ReferenceDataRegistry referenceData = registry.getIfAvailable();
+        return new BinLookupService(properties.getBin().getTable(), referenceData == null ? null
+                : issuerCode -> referenceData.domain(issuerCode) instanceof FinancialInstitution institution ? institution : null);
+    }
+
+    @Bean
+    @Lazy
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "netra.commons.duplicate-debit", name = "enabled", havingValue = "true")
+    public DuplicateDebitDetector duplicateDebitDetector(NetraCommonsProperties properties) {
+        NetraCommonsProperties.DuplicateDebit config = properties.getDuplicateDebit();
+        return new DuplicateDebitDetector(config.getWindow(), config.getCapacity());
+    }
+
+    @Bean
+    @Lazy
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "netra.commons.admission", name = "enabled", havingValue = "true")
+    public AdmissionController admissionController(NetraCommonsProperties properties) {
+        NetraCommonsProperties.Admission config = properties.getAdmission();
+        Map<DisputantType, RateLimit> perType = new EnumMap<>(DisputantType.class);
+        perType.put(DisputantType.CUSTOMERUSER, rateLimit(config.getCustomerUser()));
+        perType.put(DisputantType.INSTITUTIONUSER, rateLimit(config.getInstitutionUser()));
+        return new AdmissionController(rateLimit(config.getPerDisputant()), rateLimit(config.getPerInstitution()),
+                perType, rateLimit(config.getPriorityLane()), config.getCapacity());
+    }
+
+    @Bean
+    @Lazy
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "netra.commons.search", name = "enabled", havingValue = "true")
+    public DisputeSearchIndex disputeSearchIndex(NetraCommonsProperties properties) {
+        NetraCommonsProperties.Search config = properties.getSearch();
+        if (config.getSegment() == null || !Files.exists(config.getSegment())) {
+            return new DisputeSearchIndex();
+        }
+        try {
+            return DisputeSearchIndex.load(config.getSegment());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not load search segment " + config.getSegment(), e);
+        }
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @Lazy
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(DeadlineListener.class)
+    public DisputeDeadlineScheduler disputeDeadlineScheduler(DeadlineListener listener, NetraCommonsProperties properties) {
+        NetraCommonsProperties.Deadlines config = properties.getDeadlines();
+        return new DisputeDeadlineScheduler(listener, config.getTick(), config.getMaxBatchSize(), Clock.systemUTC());
+    }
+
+    private static RateLimit rateLimit(NetraCommonsProperties.Limit limit) {
+        return limit == null ? null : limit.toRateLimit();
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnBean(ReferenceDataSource.class)
+    static class ReferenceDataConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ReferenceDataRegistry referenceDataRegistry(ReferenceDataSource source, NetraCommonsProperties properties) {
+            return new ReferenceDataRegistry(source, properties.getReferenceData().getLookupTimeout());
+        }
+
+        @Bean
+        ReferenceDataLoader netraReferenceDataLoader(ReferenceDataRegistry registry, NetraCommonsProperties properties) {
+            return new ReferenceDataLoader(registry, properties.getReferenceData().isBackground());
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnBean(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "netra.commons.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class MetricsConfiguration {
+
+        // Not lazy: nothing injects it, installing it is its whole purpose.
+        @Bean
+        MetricsInstaller netraMetricsInstaller(MeterRegistry registry) {
+            return new MetricsInstaller(registry);
+        }
+    }
+
+    static final class MetricsInstaller implements DisposableBean {
+
+        private MetricsInstaller(MeterRegistry registry) {
+            Instrumentation.install(new MicrometerLibraryMetrics(registry));
+        }
+
+        @Override
+        public void destroy() {
+            Instrumentation.reset();
+        }
+    }
+}
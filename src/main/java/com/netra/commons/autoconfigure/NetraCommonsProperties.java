@@ -0,0 +1,92 @@
+package com.netra.commons.autoconfigure;
+
+import com.netra.commons.admission.RateLimit;
+import com.netra.commons.reference.ReferenceDataRegistry;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * {@code netra.commons.*} settings. Components are off unless enabled or, for file-backed ones,
+ * unless their file is configured.
+ */
+@Data
+@ConfigurationProperties("netra.commons")
+public class NetraCommonsProperties {
+
+    private final Bin bin = new Bin();
+    private final DuplicateDebit duplicateDebit = new DuplicateDebit();
+    private final Admission admission = new Admission();
+    private final Search search = new Search();
+    private final Deadlines deadlines = new Deadlines();
+    private final ReferenceData referenceData = new ReferenceData();
+    private final Metrics metrics = new Metrics();
+
+    @Data
+    public static class Bin {
+        private Path table; // CSV range file; enables BinLookupService
+    }
+
+    @Data
+    public static class DuplicateDebit {
+        private boolean enabled;
+        private Duration window = Duration.ofMinutes(10);
+        private int capacity = 1 << 20;
+    }
+
+    @Data
+    public static class Admission {
+        private boolean enabled;
+        private int capacity = 1 << 20;
+        private Limit perDisputant = new Limit(1, 20);
+        private Limit perInstitution; // unset levels are unlimited
+        private Limit customerUser;
+        private Limit institutionUser;
+        private Limit priorityLane;
+    }
+
+    @Data
+    public static class Limit {
+        private double permitsPerSecond;
+        private int burst = 1;
+
+        public Limit() {
+        }
+
+        public Limit(double permitsPerSecond, int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
+
+        RateLimit toRateLimit() {
+            return new RateLimit(permitsPerSecond, burst);
+        }
+    }
+
+    @Data
+    public static class Search {
+        private boolean enabled;
+        private Path segment; // loaded on first use when present
+    }
+
+    @Data
+    public static class Deadlines {
+        private Duration tick = Duration.ofSeconds(1);
+        private int maxBatchSize = 1024;
+    }
+
+    @Data
+    public static class ReferenceData {
+        // false loads during context refresh, before the application reports ready
+        private boolean background = true;
+        // how long a lookup waits for a running load before failing
+        private Duration lookupTimeout = ReferenceDataRegistry.DEFAULT_LOOKUP_TIMEOUT;
+    }
+
+    @Data
+    public static class Metrics {
+        private boolean enabled = true;
+    }
+}
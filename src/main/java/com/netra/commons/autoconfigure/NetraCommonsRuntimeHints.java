@@ -0,0 +1,95 @@
+package com.netra.commons.autoconfigure;
+
+import com.netra.commons.annotations.ValidDisputeRequest;
+import com.netra.commons.contracts.Auditable;
+import com.netra.commons.contracts.BlockchainAuditable;
+import com.netra.commons.contracts.DisableAble;
+import com.netra.commons.contracts.Disputant;
+import com.netra.commons.contracts.Domain;
+import com.netra.commons.contracts.Nameable;
+import com.netra.commons.enums.AccountType;
+import com.netra.commons.enums.CurrencyType;
+import com.netra.commons.enums.DisputantType;
+import com.netra.commons.enums.DisputeAmountType;
+import com.netra.commons.enums.DisputeField;
+import com.netra.commons.enums.DisputeMode;
+import com.netra.commons.enums.DisputeState;
+import com.netra.commons.enums.DomainType;
+import com.netra.commons.enums.EvidenceType;
+import com.netra.commons.enums.TransactionChannel;
+import com.netra.commons.enums.TransactionErrorType;
+import com.netra.commons.enums.TransactionInstrument;
+import com.netra.commons.enums.TransactionParticipationRole;
+import com.netra.commons.models.AccountDetail;
+import com.netra.commons.models.BaseEntity;
+import com.netra.commons.models.CardDTO;
+import com.netra.commons.models.CardScheme;
+import com.netra.commons.models.Currency;
+import com.netra.commons.models.CustomerUser;
+import com.netra.commons.models.DisputeTimeline;
+import com.netra.commons.models.EndpointConfig;
+import com.netra.commons.models.EndpointHeader;
+import com.netra.commons.models.Evidence;
+import com.netra.commons.models.FinancialInstitution;
+import com.netra.commons.models.InstitutionUser;
+import com.netra.commons.models.Switcher;
+import com.netra.commons.models.Transaction;
+import com.netra.commons.models.TransactionParticipant;
+import com.netra.commons.models.TransactionSource;
+import com.netra.commons.models.TransactionType;
+import com.netra.commons.models.TriageDecisionRule;
+import com.netra.commons.requests.CreateDisputeRequest;
+import com.netra.commons.requests.UpdateDisputeRequest;
+import com.netra.commons.requests.util.ChannelProviderSummaryDTO;
+import com.netra.commons.requests.util.TransactionRailDTO;
+import com.netra.commons.validators.DisputeRequestValidator;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Native-image and AOT hints for what the library reaches reflectively: models and requests (Jackson
+ * binding and triage getter paths), enums (binding by name), contracts (getter paths through
+ * interface-typed properties) and the constraint validator Hibernate Validator instantiates.
+ */
+class NetraCommonsRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final List<Class<?>> DATA_TYPES = List.of(
+            BaseEntity.class, AccountDetail.class, CardDTO.class, Currency.class, CustomerUser.class,
+            DisputeTimeline.class, EndpointConfig.class, EndpointHeader.class, Evidence.class,
+            FinancialInstitution.class, InstitutionUser.class, Switcher.class, Transaction.class,
+            TransactionParticipant.class, TransactionSource.class, TransactionType.class, TriageDecisionRule.class,
+            CreateDisputeRequest.class, UpdateDisputeRequest.class,
+            ChannelProviderSummaryDTO.class, TransactionRailDTO.class
+    );
+
+    private static final List<Class<?>> ENUMS = List.of(
+            AccountType.class, CurrencyType.class, DisputantType.class, DisputeAmountType.class, DisputeField.class,
+            DisputeMode.class, DisputeState.class, DomainType.class, EvidenceType.class, TransactionChannel.class,
+            TransactionErrorType.class, TransactionInstrument.class, TransactionParticipationRole.class, CardScheme.class,
+            EndpointHeader.EndpointType.class
+    );
+
+    private static final List<Class<?>> CONTRACTS = List.of(
+            Auditable.class, BlockchainAuditable.class, DisableAble.class, Disputant.class, Domain.class, Nameable.class
+    );
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> type : DATA_TYPES) {
+            hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.DECLARED_FIELDS);
+        }
+        for (Class<?> type : ENUMS) {
+            hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_METHODS, MemberCategory.PUBLIC_FIELDS);
+        }
+        for (Class<?> type : CONTRACTS) {
+            hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.reflection().registerType(DisputeRequestValidator.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(ValidDisputeRequest.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
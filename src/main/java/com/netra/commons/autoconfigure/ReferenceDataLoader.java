@@ -0,0 +1,51 @@
+package com.netra.commons.autoconfigure;
+
+import com.netra.commons.reference.ReferenceDataRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Loads the {@link ReferenceDataRegistry} once the application is ready, on a background thread, so
+ * reference data and triage rule compilation stay off the startup path, unless a lookup already
+ * loaded it. With background loading off it loads during context refresh instead.
+ */
+class ReferenceDataLoader implements ApplicationListener<ApplicationReadyEvent>, SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(ReferenceDataLoader.class);
+
+    private final ReferenceDataRegistry registry;
+    private final boolean background;
+
+    ReferenceDataLoader(ReferenceDataRegistry registry, boolean background) {
+        this.registry = registry;
+        this.background = background;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!background) {
+            registry.load();
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        // a lookup made before readiness already loaded it
+        if (!background || registry.isLoaded()) return;
+        long start = System.nanoTime();
+        registry.loadAsync(task -> {
+            Thread thread = new Thread(task, "netra-reference-data");
+            thread.setDaemon(true);
+            thread.start();
+        }).whenComplete((loaded, error) -> {
+            if (error != null) {
+                log.error("Reference data failed to load; lookups will retry on first use", error);
+            } else {
+                log.info("Reference data loaded in {}ms", (System.nanoTime() - start) / 1_000_000);
+            }
+        });
+    }
+}
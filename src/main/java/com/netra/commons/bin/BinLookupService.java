@@ -0,0 +1,117 @@
+package com.netra.commons.bin;
+
+import com.netra.commons.models.AccountDetail;
+import com.netra.commons.models.CardDTO;
+import com.netra.commons.models.FinancialInstitution;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.function.Function;
+
+/**
+ * Hot-reloadable BIN lookup backed by a local range file.
+ *
+ * Readers always see a complete {@link BinRangeIndex}; a reload builds the new index off to the side
+ * and swaps it in, and a broken or missing file leaves the current index in place.
+ *
+ * Issuing institutions are only filled in through the {@code issuerResolver}, which maps a range's
+ * issuer code to the real {@link FinancialInstitution}; without one, or when it does not know the
+ * code, the account is left alone and the caller gets the matched {@link BinRange}.
+ */
+public class BinLookupService {
+
+    private static final Logger log = LoggerFactory.getLogger(BinLookupService.class);
+
+    private final Path source;
+    private final Function<String, FinancialInstitution> issuerResolver;
+    private volatile BinRangeIndex index;
+    private volatile FileTime loadedModifiedTime;
+
+    public BinLookupService(Path source) {
+        this(source, null);
+    }
+
+    public BinLookupService(Path source, Function<String, FinancialInstitution> issuerResolver) {
+        this.source = source;
+        this.issuerResolver = issuerResolver;
+        reload();
+    }
+
+    public synchronized void reload() {
+        FileTime modified = lastModified();
+        this.index = BinRangeIndex.load(source);
+        this.loadedModifiedTime = modified;
+    }
+
+    /**
+     * Reloads when the file changed since the last load; meant to be called from a scheduler
+     * or file watcher. A missing file keeps the current table; a malformed one throws and keeps it too.
+     */
+    public boolean reloadIfModified() {
+        FileTime modified = lastModifiedOrNull();
+        if (modified == null || modified.equals(loadedModifiedTime)) return false;
+        synchronized (this) {
+            modified = lastModifiedOrNull();
+            if (modified == null || modified.equals(loadedModifiedTime)) return false;
+            reload();
+            return true;
+        }
+    }
+
+    public BinRange lookup(CharSequence leadingDigits) {
+        return index.lookup(leadingDigits);
+    }
+
+    /**
+     * Fills in a missing card scheme from {@code firstFourDigits}. Returns the matched range or {@code null}.
+     */
+    public BinRange enrich(CardDTO card) {
+        if (card == null) return null;
+        BinRange range = index.lookup(card.getFirstFourDigits());
+        if (range != null && card.getCardScheme() == null) {
+            card.setCardScheme(range.getCardScheme());
+        }
+        return range;
+    }
+
+    /**
+     * Fills in the card scheme and, when absent and resolvable, the issuing institution of a card account.
+     */
+    public BinRange enrich(AccountDetail account) {
+        if (account == null) return null;
+        BinRange range = enrich(account.getCard());
+        if (range != null && account.getIssuingInstitution() == null && range.getIssuerCode() != null && issuerResolver != null) {
+            FinancialInstitution issuer = issuerResolver.apply(range.getIssuerCode());
+            if (issuer != null) {
+                account.setIssuingInstitution(issuer);
+            }
+        }
+        return range;
+    }
+
+    public BinRangeIndex getIndex() {
+        return index;
+    }
+
+    private FileTime lastModifiedOrNull() {
+        try {
+            return Files.getLastModifiedTime(source);
+        } catch (IOException e) {
+            log.warn("BIN file {} is unavailable; keeping the current table", source);
+            return null;
+        }
+    }
+
+    private FileTime lastModified() {
+        try {
+            return Files.getLastModifiedTime(source);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to stat BIN file " + source, e);
+        }
+    }
+}
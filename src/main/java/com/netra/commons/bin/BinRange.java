@@ -0,0 +1,33 @@
+package com.netra.commons.bin;
+
+import com.netra.commons.models.CardScheme;
+import lombok.Value;
+
+/**
+ * One issuer BIN/IIN range. Bounds are normalised to {@link BinRangeIndex#BIN_DIGITS} digits.
+ */
+@Value
+public class BinRange {
+
+    long low;
+    long high;
+    CardScheme cardScheme;
+    String issuerCode;
+    String issuerName;
+
+    public BinRange(long low, long high, CardScheme cardScheme, String issuerCode, String issuerName) {
+        if (low > high) {
+            throw new IllegalArgumentException("BIN range low " + low + " is above high " + high);
+        }
+        this.low = low;
+        this.high = high;
+        this.cardScheme = cardScheme;
+        this.issuerCode = issuerCode;
+        this.issuerName = issuerName;
+    }
+
+    @Override
+    public String toString() {
+        return "BinRange[" + low + "-" + high + " " + cardScheme + " " + issuerCode + "]";
+    }
+}
@@ -0,0 +1,155 @@
+package com.netra.commons.bin;
+
+import com.netra.commons.models.CardScheme;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable, sorted BIN range table. Lookups binary-search a primitive array and never allocate.
+ *
+ * File format, one range per line ({@code #} starts a comment):
+ * <pre>
+ * # low,high,scheme,issuerCode,issuerName
+ * 506099,506198,VERVE,FI044,Access Bank
+ * 4,4,VISA,,
+ * </pre>
+ * Bounds may be shorter than {@value #BIN_DIGITS} digits: the low bound is padded with 0s and
+ * the high bound with 9s. Ranges must not overlap.
+ */
+public final class BinRangeIndex {
+
+    public static final int BIN_DIGITS = 8;
+
+    private static final long[] POW10 = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L
+    };
+
+    private final long[] lows;
+    private final long[] highs;
+    private final BinRange[] ranges;
+
+    private BinRangeIndex(List<BinRange> sorted) {
+        int size = sorted.size();
+        this.lows = new long[size];
+        this.highs = new long[size];
+        this.ranges = sorted.toArray(new BinRange[0]);
+        for (int i = 0; i < size; i++) {
+            lows[i] = ranges[i].getLow();
+            highs[i] = ranges[i].getHigh();
+        }
+    }
+
+    public static BinRangeIndex of(List<BinRange> ranges) {
+        List<BinRange> sorted = new ArrayList<>(ranges);
+        sorted.sort(Comparator.comparingLong(BinRange::getLow));
+        for (int i = 1; i < sorted.size(); i++) {
+            if (sorted.get(i).getLow() <= sorted.get(i - 1).getHigh()) {
+                throw new IllegalArgumentException("Overlapping BIN ranges: " + sorted.get(i - 1) + " and " + sorted.get(i));
+            }
+        }
+        return new BinRangeIndex(sorted);
+    }
+
+    public static BinRangeIndex load(Path file) {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return read(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read BIN file " + file, e);
+        }
+    }
+
+    public static BinRangeIndex read(Reader source) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader b ? b : new BufferedReader(source);
+        List<BinRange> ranges = new ArrayList<>();
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            String[] cols = line.split(",", -1);
+            if (cols.length < 3) {
+                throw new IllegalArgumentException("BIN line " + lineNumber + " needs at least low,high,scheme");
+            }
+            try {
+                ranges.add(new BinRange(
+                        pad(cols[0].trim(), '0'),
+                        pad(cols[1].trim(), '9'),
+                        CardScheme.valueOf(cols[2].trim().toUpperCase()),
+                        cols.length > 3 && !cols[3].isBlank() ? cols[3].trim() : null,
+                        cols.length > 4 && !cols[4].isBlank() ? cols[4].trim() : null));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid BIN line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return of(ranges);
+    }
+
+    /**
+     * Resolves the range that fully covers the given leading card digits, or {@code null}.
+     * Non-digit characters (spaces, dashes) are skipped; only the first {@value #BIN_DIGITS}
+     * digits are used. A short prefix such as {@code firstFourDigits} only resolves when a
+     * single range covers every BIN that starts with it.
+     */
+    public BinRange lookup(CharSequence leadingDigits) {
+        if (leadingDigits == null || lows.length == 0) return null;
+
+        long value = 0;
+        int digits = 0;
+        for (int i = 0; i < leadingDigits.length() && digits < BIN_DIGITS; i++) {
+            char c = leadingDigits.charAt(i);
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                digits++;
+            }
+        }
+        if (digits == 0) return null;
+
+        long span = POW10[BIN_DIGITS - digits];
+        long prefixLow = value * span;
+        long prefixHigh = prefixLow + span - 1;
+
+        int lo = 0;
+        int hi = lows.length - 1;
+        int candidate = -1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (lows[mid] <= prefixLow) {
+                candidate = mid;
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return candidate >= 0 && highs[candidate] >= prefixHigh ? ranges[candidate] : null;
+    }
+
+    public int size() {
+        return ranges.length;
+    }
+
+    private static long pad(String bound, char filler) {
+        if (bound.isEmpty() || bound.length() > BIN_DIGITS) {
+            throw new IllegalArgumentException("BIN bound must have 1-" + BIN_DIGITS + " digits: '" + bound + "'");
+        }
+        long value = 0;
+        for (int i = 0; i < BIN_DIGITS; i++) {
+            char c = i < bound.length() ? bound.charAt(i) : filler;
+            if (c < '0' || c > '9') {
+                throw new IllegalArgumentException("BIN bound must be numeric: '" + bound + "'");
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+}
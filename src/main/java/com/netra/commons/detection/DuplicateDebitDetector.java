@@ -0,0 +1,120 @@
+package com.netra.commons.detection;
+
+import com.netra.commons.models.AccountDetail;
+import com.netra.commons.models.Transaction;
+import com.netra.commons.requests.util.TransactionRailDTO;
+import com.netra.commons.util.LongHash;
+import com.netra.commons.util.StripedLongTable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Flags near-identical debits on a transaction feed before they turn into
+ * {@link com.netra.commons.enums.TransactionErrorType#DUPLICATE_DEBIT} disputes.
+ *
+ * Debits are keyed by (account number, amount, instrument id) folded into a 64-bit fingerprint and
+ * kept in a {@link StripedLongTable}, so memory is bounded by the configured capacity no matter how
+ * many transactions flow through. Entries older than the window are reused first; when a probe run
+ * holds none the stalest entry is overwritten, which can only cause a missed duplicate. Only the fingerprint is stored, so two
+ * different debits whose fingerprints collide (about 2^-64 per pair) are reported as duplicates:
+ * treat a hit as a reason to look closer, not as proof.
+ *
+ * Transaction dates are read as UTC; undated transactions are stamped with the detector clock's
+ * local date-time, so give it a clock in the zone the feed's dates are recorded in.
+ *
+ * Safe for concurrent use by partitioned consumers.
+ */
+public class DuplicateDebitDetector {
+
+    private final long windowMillis;
+    private final Clock clock;
+    private final StripedLongTable table;
+
+    public DuplicateDebitDetector(Duration window, int capacity) {
+        this(window, capacity, Runtime.getRuntime().availableProcessors() * 4, Clock.systemUTC());
+    }
+
+    public DuplicateDebitDetector(Duration window, int capacity, int concurrency, Clock clock) {
+        if (window == null || window.isNegative() || window.isZero()) {
+            throw new IllegalArgumentException("Window must be positive");
+        }
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+        this.table = new StripedLongTable(capacity, concurrency, new LatestDebit(windowMillis));
+    }
+
+    /**
+     * Records the debit and reports whether a near-identical one was seen within the window.
+     * Transactions without a date are stamped with {@code LocalDateTime.now(clock)}.
+     */
+    public boolean observe(String accountNumber, Transaction transaction) {
+        long key = debitKey(accountNumber, transaction);
+        long timestamp = eventTime(transaction.getTransactionDate());
+        long previous = table.update(key, timestamp);
+        return previous != StripedLongTable.ABSENT && Math.abs(timestamp - previous) <= windowMillis;
+    }
+
+    public boolean observe(AccountDetail account, Transaction transaction) {
+        return observe(account == null ? null : account.getAccountNumber(), transaction);
+    }
+
+    /**
+     * Number of live entries overwritten because their probe run was full; a steadily
+     * growing value means the capacity is too small for the window.
+     */
+    public long evictions() {
+        return table.evictions();
+    }
+
+    public int capacity() {
+        return table.capacity();
+    }
+
+    static long debitKey(String accountNumber, Transaction transaction) {
+        TransactionRailDTO rail = transaction.getTransactionRailDTO();
+        BigDecimal amount = transaction.getAmount();
+
+        long h = LongHash.hash(accountNumber);
+        // stripTrailingZeros so that 100.0 and 100.00 hash alike
+        h = LongHash.combine(h, amount == null ? 0 : amountBits(amount.stripTrailingZeros()));
+        h = LongHash.combine(h, LongHash.hash(rail == null ? null : rail.getInstrumentId()));
+        return h == 0 ? 1 : h;
+    }
+
+    // Exact for any amount whose unscaled value fits a long; hashed beyond that.
+    private static long amountBits(BigDecimal amount) {
+        BigInteger unscaled = amount.unscaledValue();
+        long value = unscaled.bitLength() < 64 ? unscaled.longValue() : LongHash.hash(unscaled.toString());
+        return LongHash.combine(value, amount.scale());
+    }
+
+    // Same time base for dated and undated transactions: a local date-time read as UTC.
+    private long eventTime(LocalDateTime transactionDate) {
+        LocalDateTime date = transactionDate == null ? LocalDateTime.now(clock) : transactionDate;
+        return date.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    // Keeps the latest debit time per fingerprint; entries older than the window are reusable.
+    private record LatestDebit(long windowMillis) implements StripedLongTable.Policy {
+
+        @Override
+        public long onHit(long previous, long timestamp) {
+            return Math.max(previous, timestamp);
+        }
+
+        @Override
+        public long onInsert(long timestamp) {
+            return timestamp;
+        }
+
+        @Override
+        public boolean isIdle(long previous, long timestamp) {
+            return previous < timestamp - windowMillis;
+        }
+    }
+}
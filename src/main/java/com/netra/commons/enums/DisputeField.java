@@ -0,0 +1,50 @@
+package com.netra.commons.enums;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Top-level fields of a {@code CreateDisputeRequest}; the unit of change tracking for updates.
+ */
+public enum DisputeField {
+    INITIATOR("initiator"),
+    TRANSACTION("transaction"),
+    PARTICIPANTS("participants"),
+    EVIDENCES("evidences"),
+    DISPUTE_AMOUNT_TYPE("disputeAmountType"),
+    MODE("mode"),
+    NOTE("note"),
+    DISPUTED_AMOUNT("disputedAmount"),
+    ACCOUNT_DETAIL("accountDetail");
+
+    private final String property;
+
+    DisputeField(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Fields a getter path such as {@code transaction.amount} reads. The derived triage variables
+     * {@code evidenceTypes} and {@code participantRoles} map to their source lists, and an empty path
+     * (the whole request) or an unknown one reads every field.
+     */
+    public static Set<DisputeField> forPath(String path) {
+        int dot = path.indexOf('.');
+        String head = dot < 0 ? path : path.substring(0, dot);
+        switch (head) {
+            case "evidenceTypes":
+                return EnumSet.of(EVIDENCES);
+            case "participantRoles":
+                return EnumSet.of(PARTICIPANTS);
+            default:
+                for (DisputeField field : values()) {
+                    if (field.property.equals(head)) return EnumSet.of(field);
+                }
+                return EnumSet.allOf(DisputeField.class);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.netra.commons.features;
+
+import com.netra.commons.enums.DisputantType;
+import com.netra.commons.enums.DisputeAmountType;
+import com.netra.commons.enums.DisputeMode;
+import com.netra.commons.enums.TransactionChannel;
+import com.netra.commons.enums.TransactionErrorType;
+import com.netra.commons.enums.TransactionInstrument;
+
+/**
+ * Single-valued enum attributes of a dispute, each owning a range of bits in
+ * {@link DisputeFeatureVector#getCategorical()}. {@code path} is the variable name triage rules use.
+ */
+public enum CategoricalFeature {
+    CHANNEL("transaction.transactionRailDTO.channel", TransactionChannel.class, 0),
+    INSTRUMENT("transaction.transactionRailDTO.instrument", TransactionInstrument.class, 8),
+    ERROR_TYPE("transaction.errorType", TransactionErrorType.class, 16),
+    MODE("mode", DisputeMode.class, 24),
+    AMOUNT_TYPE("disputeAmountType", DisputeAmountType.class, 32),
+    DISPUTANT_TYPE("initiator.disputantType", DisputantType.class, 36);
+
+    private final String path;
+    private final Class<? extends Enum<?>> type;
+    private final int offset;
+    private final int width;
+
+    static {
+        // a constant added to one enum must not spill into the next feature's bits
+        CategoricalFeature[] features = values();
+        for (int i = 0; i < features.length; i++) {
+            int limit = i + 1 < features.length ? features[i + 1].offset : Long.SIZE;
+            if (features[i].offset + features[i].width > limit) {
+                throw new IllegalStateException(features[i] + " has " + features[i].width + " constants but only "
+                        + (limit - features[i].offset) + " bits");
+            }
+        }
+    }
+
+    CategoricalFeature(String path, Class<? extends Enum<?>> type, int offset) {
+        this.path = path;
+        this.type = type;
+        this.offset = offset;
+        this.width = type.getEnumConstants().length;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Class<? extends Enum<?>> getType() {
+        return type;
+    }
+
+    public static CategoricalFeature forPath(String path) {
+        for (CategoricalFeature feature : values()) {
+            if (feature.path.equals(path)) return feature;
+        }
+        return null;
+    }
+
+    public static CategoricalFeature forType(Class<?> type) {
+        for (CategoricalFeature feature : values()) {
+            if (feature.type == type) return feature;
+        }
+        return null;
+    }
+
+    /**
+     * Bit of one constant, or 0 when the name is not a constant of this feature's enum.
+     */
+    public long mask(String constantName) {
+        for (Enum<?> constant : type.getEnumConstants()) {
+            if (constant.name().equals(constantName)) return 1L << (offset + constant.ordinal());
+        }
+        return 0L;
+    }
+
+    long mask(Enum<?> constant) {
+        return constant == null ? 0L : 1L << (offset + constant.ordinal());
+    }
+
+    /**
+     * Every bit this feature may set; clear them before setting a changed value.
+     */
+    long bits() {
+        return ((1L << width) - 1) << offset;
+    }
+}
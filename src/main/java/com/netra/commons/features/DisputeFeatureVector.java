@@ -0,0 +1,269 @@
+package com.netra.commons.features;
+
+import com.netra.commons.enums.DisputeField;
+import com.netra.commons.enums.EvidenceType;
+import com.netra.commons.enums.TransactionParticipationRole;
+import com.netra.commons.models.Evidence;
+import com.netra.commons.models.Transaction;
+import com.netra.commons.models.TransactionParticipant;
+import com.netra.commons.requests.CreateDisputeRequest;
+import com.netra.commons.requests.util.TransactionRailDTO;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Immutable, precomputed view of the attributes triage rules and filters test, built with one pass
+ * over a {@link CreateDisputeRequest}.
+ *
+ * Set-valued attributes (evidence types, participant roles) are bitmasks indexed by enum ordinal and
+ * single-valued enums share the {@link CategoricalFeature} bitmask, so membership and equality checks
+ * are a single {@code &}. Amounts are fixed-point longs with {@value #AMOUNT_SCALE} decimals and the
+ * transaction date is epoch seconds (UTC); {@link #MISSING} marks absent values. An amount with more
+ * decimals than that is rounded, and {@link #isTransactionAmountExact()} and friends report it, so
+ * callers that need the exact value can fall back to the request.
+ *
+ * The vector does not track later changes to the request; after mutating it, build a new one or
+ * {@link #update} it with the fields that changed.
+ */
+public final class DisputeFeatureVector {
+
+    public static final int AMOUNT_SCALE = 4;
+    public static final long MISSING = Long.MIN_VALUE;
+
+    private static final Set<DisputeField> ALL_FIELDS = EnumSet.allOf(DisputeField.class);
+    private static final DisputeFeatureVector EMPTY = new DisputeFeatureVector(0, 0, 0,
+            MISSING, MISSING, true, true, MISSING, 0, 0, null);
+
+    static {
+        // evidence types and participant roles are indexed by ordinal in a single long
+        if (EvidenceType.values().length > Long.SIZE || TransactionParticipationRole.values().length > Long.SIZE) {
+            throw new IllegalStateException("EvidenceType and TransactionParticipationRole must have at most 64 constants");
+        }
+    }
+
+    private final long evidenceTypes;
+    private final long participantRoles;
+    private final long categorical;
+    private final long transactionAmount;
+    private final long disputedAmount;
+    private final boolean transactionAmountExact;
+    private final boolean disputedAmountExact;
+    private final long transactionEpochSecond;
+    private final int evidenceCount;
+    private final int participantCount;
+    private final String transactionTypeCode;
+
+    DisputeFeatureVector(long evidenceTypes, long participantRoles, long categorical,
+                         long transactionAmount, long disputedAmount,
+                         boolean transactionAmountExact, boolean disputedAmountExact, long transactionEpochSecond,
+                         int evidenceCount, int participantCount, String transactionTypeCode) {
+        this.evidenceTypes = evidenceTypes;
+        this.participantRoles = participantRoles;
+        this.categorical = categorical;
+        this.transactionAmount = transactionAmount;
+        this.disputedAmount = disputedAmount;
+        this.transactionAmountExact = transactionAmountExact;
+        this.disputedAmountExact = disputedAmountExact;
+        this.transactionEpochSecond = transactionEpochSecond;
+        this.evidenceCount = evidenceCount;
+        this.participantCount = participantCount;
+        this.transactionTypeCode = transactionTypeCode;
+    }
+
+    public static DisputeFeatureVector of(CreateDisputeRequest request) {
+        return EMPTY.update(request, ALL_FIELDS);
+    }
+
+    /**
+     * The vector for {@code request} after {@code changed} fields were replaced, recomputing only the
+     * attributes those fields feed; returns this vector when none of them is tracked.
+     */
+    public DisputeFeatureVector update(CreateDisputeRequest request, Set<DisputeField> changed) {
+        long evidenceTypes = this.evidenceTypes;
+        int evidenceCount = this.evidenceCount;
+        long participantRoles = this.participantRoles;
+        int participantCount = this.participantCount;
+        long categorical = this.categorical;
+        long transactionAmount = this.transactionAmount;
+        boolean transactionAmountExact = this.transactionAmountExact;
+        long disputedAmount = this.disputedAmount;
+        boolean disputedAmountExact = this.disputedAmountExact;
+        long transactionEpochSecond = this.transactionEpochSecond;
+        String transactionTypeCode = this.transactionTypeCode;
+        boolean updated = false;
+
+        if (changed.contains(DisputeField.EVIDENCES)) {
+            evidenceTypes = 0;
+            evidenceCount = 0;
+            if (request.getEvidences() != null) {
+                for (Evidence evidence : request.getEvidences()) {
+                    evidenceTypes |= bit(evidence.getEvidenceType());
+                    evidenceCount++;
+                }
+            }
+            updated = true;
+        }
+        if (changed.contains(DisputeField.PARTICIPANTS)) {
+            participantRoles = 0;
+            participantCount = 0;
+            if (request.getParticipants() != null) {
+                for (TransactionParticipant participant : request.getParticipants()) {
+                    participantRoles |= bit(participant.getTransactionParticipationRole());
+                    participantCount++;
+                }
+            }
+            updated = true;
+        }
+        if (changed.contains(DisputeField.MODE)) {
+            categorical = replace(categorical, CategoricalFeature.MODE, request.getMode());
+            updated = true;
+        }
+        if (changed.contains(DisputeField.DISPUTE_AMOUNT_TYPE)) {
+            categorical = replace(categorical, CategoricalFeature.AMOUNT_TYPE, request.getDisputeAmountType());
+            updated = true;
+        }
+        if (changed.contains(DisputeField.INITIATOR)) {
+            categorical = replace(categorical, CategoricalFeature.DISPUTANT_TYPE,
+                    request.getInitiator() == null ? null : request.getInitiator().getDisputantType());
+            updated = true;
+        }
+        if (changed.contains(DisputeField.TRANSACTION)) {
+            Transaction transaction = request.getTransaction();
+            TransactionRailDTO rail = transaction == null ? null : transaction.getTransactionRailDTO();
+            categorical = replace(categorical, CategoricalFeature.ERROR_TYPE, transaction == null ? null : transaction.getErrorType());
+            categorical = replace(categorical, CategoricalFeature.CHANNEL, rail == null ? null : rail.getChannel());
+            categorical = replace(categorical, CategoricalFeature.INSTRUMENT, rail == null ? null : rail.getInstrument());
+            BigDecimal amount = transaction == null ? null : transaction.getAmount();
+            transactionAmount = toFixedPoint(amount);
+            transactionAmountExact = isExact(amount);
+            transactionEpochSecond = transaction == null || transaction.getTransactionDate() == null
+                    ? MISSING : transaction.getTransactionDate().toEpochSecond(ZoneOffset.UTC);
+            transactionTypeCode = transaction == null || transaction.getTransactionType() == null
+                    ? null : transaction.getTransactionType().getCode();
+            updated = true;
+        }
+        if (changed.contains(DisputeField.DISPUTED_AMOUNT)) {
+            disputedAmount = toFixedPoint(request.getDisputedAmount());
+            disputedAmountExact = isExact(request.getDisputedAmount());
+            updated = true;
+        }
+        if (!updated) return this;
+
+        return new DisputeFeatureVector(evidenceTypes, participantRoles, categorical,
+                transactionAmount, disputedAmount, transactionAmountExact, disputedAmountExact, transactionEpochSecond,
+                evidenceCount, participantCount, transactionTypeCode);
+    }
+
+    private static long replace(long categorical, CategoricalFeature feature, Enum<?> constant) {
+        return (categorical & ~feature.bits()) | feature.mask(constant);
+    }
+
+    public static long bit(EvidenceType type) {
+        return type == null ? 0L : 1L << type.ordinal();
+    }
+
+    public static long bit(TransactionParticipationRole role) {
+        return role == null ? 0L : 1L << role.ordinal();
+    }
+
+    /**
+     * Mask of one single-valued enum constant within {@link #getCategorical()}.
+     */
+    public static long mask(Enum<?> constant) {
+        CategoricalFeature feature = CategoricalFeature.forType(constant.getDeclaringClass());
+        if (feature == null) {
+            throw new IllegalArgumentException(constant.getDeclaringClass().getSimpleName() + " is not a categorical feature");
+        }
+        return feature.mask(constant);
+    }
+
+    /**
+     * Converts an amount to the vector's fixed-point representation; saturates beyond the long range.
+     */
+    public static long toFixedPoint(BigDecimal amount) {
+        if (amount == null) return MISSING;
+        try {
+            return amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            return amount.signum() > 0 ? Long.MAX_VALUE : MISSING + 1;
+        }
+    }
+
+    /**
+     * True when {@link #toFixedPoint} represents the amount without rounding or saturating; a null
+     * amount is exact ({@link #MISSING}).
+     */
+    public static boolean isExact(BigDecimal amount) {
+        if (amount == null) return true;
+        if (amount.scale() > AMOUNT_SCALE && amount.stripTrailingZeros().scale() > AMOUNT_SCALE) return false;
+        long fixed = toFixedPoint(amount);
+        return fixed != Long.MAX_VALUE && fixed != MISSING + 1;
+    }
+
+    public boolean hasEvidence(EvidenceType type) {
+        return (evidenceTypes & bit(type)) != 0;
+    }
+
+    public boolean hasAllEvidence(long evidenceMask) {
+        return (evidenceTypes & evidenceMask) == evidenceMask;
+    }
+
+    public boolean hasRole(TransactionParticipationRole role) {
+        return (participantRoles & bit(role)) != 0;
+    }
+
+    /**
+     * True when any constant in {@code categoricalMask} is set, e.g. {@code is(mask(NIP) | mask(POS_SWITCH))}.
+     */
+    public boolean is(long categoricalMask) {
+        return (categorical & categoricalMask) != 0;
+    }
+
+    public long getEvidenceTypes() {
+        return evidenceTypes;
+    }
+
+    public long getParticipantRoles() {
+        return participantRoles;
+    }
+
+    public long getCategorical() {
+        return categorical;
+    }
+
+    public long getTransactionAmount() {
+        return transactionAmount;
+    }
+
+    public long getDisputedAmount() {
+        return disputedAmount;
+    }
+
+    public boolean isTransactionAmountExact() {
+        return transactionAmountExact;
+    }
+
+    public boolean isDisputedAmountExact() {
+        return disputedAmountExact;
+    }
+
+    public long getTransactionEpochSecond() {
+        return transactionEpochSecond;
+    }
+
+    public int getEvidenceCount() {
+        return evidenceCount;
+    }
+
+    public int getParticipantCount() {
+        return participantCount;
+    }
+
+    public String getTransactionTypeCode() {
+        return transactionTypeCode;
+    }
+}
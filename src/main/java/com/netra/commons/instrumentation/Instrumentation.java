@@ -0,0 +1,83 @@
+package com.netra.commons.instrumentation;
+
+import com.netra.commons.models.EndpointConfig;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide holder for the active {@link LibraryMetrics}. Library classes such as validators are
+ * created by frameworks rather than injected, hence a static. While nothing is installed,
+ * {@link #isEnabled()} is false and instrumented code skips even the clock reads.
+ */
+public final class Instrumentation {
+
+    private static volatile LibraryMetrics metrics = LibraryMetrics.NOOP;
+
+    private Instrumentation() {
+    }
+
+    public static void install(LibraryMetrics libraryMetrics) {
+        metrics = libraryMetrics == null ? LibraryMetrics.NOOP : libraryMetrics;
+    }
+
+    public static void reset() {
+        metrics = LibraryMetrics.NOOP;
+    }
+
+    public static LibraryMetrics metrics() {
+        return metrics;
+    }
+
+    public static boolean isEnabled() {
+        return metrics != LibraryMetrics.NOOP;
+    }
+
+    /**
+     * Runs a blocking call against the endpoint and reports its latency and outcome.
+     */
+    public static <T> T timeEndpointCall(EndpointConfig endpoint, Callable<T> call) throws Exception {
+        LibraryMetrics current = metrics;
+        if (current == LibraryMetrics.NOOP) return call.call();
+
+        long start = System.nanoTime();
+        try {
+            T result = call.call();
+            current.endpointCallCompleted(endpoint.getDomainCode(), System.nanoTime() - start, null);
+            return result;
+        } catch (Exception e) {
+            current.endpointCallCompleted(endpoint.getDomainCode(), System.nanoTime() - start, errorType(e));
+            throw e;
+        }
+    }
+
+    /**
+     * Starts an asynchronous call against the endpoint and reports when the returned future completes.
+     */
+    public static <T> CompletableFuture<T> timeEndpointCallAsync(EndpointConfig endpoint, Supplier<CompletableFuture<T>> call) {
+        LibraryMetrics current = metrics;
+        if (current == LibraryMetrics.NOOP) return call.get();
+
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            current.endpointCallCompleted(endpoint.getDomainCode(), System.nanoTime() - start, errorType(e));
+            throw e;
+        }
+        return future.whenComplete((result, error) ->
+                current.endpointCallCompleted(endpoint.getDomainCode(), System.nanoTime() - start, error == null ? null : errorType(error)));
+    }
+
+    static String errorType(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getClass().getSimpleName();
+    }
+}
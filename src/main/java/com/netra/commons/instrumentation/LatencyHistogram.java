@@ -0,0 +1,64 @@
+package com.netra.commons.instrumentation;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with power-of-two nanosecond buckets; precise enough to tell a
+ * 200ns rule from a 20µs one at the cost of one {@link LongAdder} increment per sample.
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder totalNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) buckets[i] = new LongAdder();
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[BUCKETS - Long.numberOfLeadingZeros(value)].increment();
+        totalNanos.add(value);
+    }
+
+    public long count() {
+        long count = 0;
+        for (LongAdder bucket : buckets) count += bucket.sum();
+        return count;
+    }
+
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Upper bound of the bucket holding the given quantile (0..1), in nanoseconds.
+     */
+    public long quantileNanos(double quantile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank && counts[i] > 0) return i == 0 ? 0 : (1L << i) - 1;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Counts per bucket; index {@code i} holds samples in {@code [2^(i-1), 2^i)} nanoseconds.
+     */
+    public long[] bucketCounts() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) counts[i] = buckets[i].sum();
+        return counts;
+    }
+}
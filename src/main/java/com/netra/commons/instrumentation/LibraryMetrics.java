@@ -0,0 +1,49 @@
+package com.netra.commons.instrumentation;
+
+/**
+ * Instrumentation SPI for library components. Every callback defaults to a no-op, so a binding
+ * only implements what it exports. Implementations are called on hot paths and must not block.
+ *
+ * Install one with {@link Instrumentation#install(LibraryMetrics)}.
+ */
+public interface LibraryMetrics {
+
+    LibraryMetrics NOOP = new LibraryMetrics() {
+    };
+
+    /**
+     * One {@code DisputeRequestValidator.isValid} call.
+     */
+    default void validationCompleted(long nanos, boolean valid) {
+    }
+
+    /**
+     * A partial re-check of an updated dispute that re-ran only the {@code rulesChecked} rules reading
+     * a changed field. {@code valid} is the dispute's overall state afterwards. Reported separately
+     * from {@link #validationCompleted} so full-validation latency is not skewed by cheap re-checks.
+     */
+    default void revalidationCompleted(long nanos, int rulesChecked, boolean valid) {
+    }
+
+    /**
+     * A single validation rule rejected a request; several may fail for one request.
+     */
+    default void validationRuleFailed(String rule) {
+    }
+
+    default void disputeKeyGenerated(long nanos) {
+    }
+
+    /**
+     * One triage pass over a transaction type's rules.
+     */
+    default void triageCompleted(long nanos, boolean matched) {
+    }
+
+    /**
+     * A call to an {@code EndpointConfig}-described endpoint. {@code errorType} is null on success,
+     * otherwise the simple name of the failure, e.g. {@code TimeoutException}.
+     */
+    default void endpointCallCompleted(String domainCode, long nanos, String errorType) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.netra.commons.instrumentation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LibraryMetrics} backed by Micrometer. Micrometer is an optional dependency of this library;
+ * services that use this binding must have {@code micrometer-core} on their classpath.
+ *
+ * Meters are resolved once per tag value and cached, so the hot path is a map lookup plus the
+ * registry's own recording cost.
+ */
+public class MicrometerLibraryMetrics implements LibraryMetrics {
+
+    private final MeterRegistry registry;
+    private final Timer validValidations;
+    private final Timer invalidValidations;
+    private final Timer validRevalidations;
+    private final Timer invalidRevalidations;
+    private final DistributionSummary revalidatedRules;
+    private final Timer keyGeneration;
+    private final Timer triageMatched;
+    private final Timer triageUnmatched;
+    private final ConcurrentHashMap<String, Counter> ruleFailures = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Timer> endpointSuccesses = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Timer>> endpointFailures = new ConcurrentHashMap<>();
+
+    public MicrometerLibraryMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.validValidations = validationTimer("true");
+        this.invalidValidations = validationTimer("false");
+        this.validRevalidations = revalidationTimer("true");
+        this.invalidRevalidations = revalidationTimer("false");
+        this.revalidatedRules = DistributionSummary.builder("netra.dispute.revalidation.rules")
+                .description("Validation rules re-run per dispute update")
+                .register(registry);
+        this.keyGeneration = Timer.builder("netra.dispute.key.generation")
+                .description("DisputeRequestUtil.generateDisputeKey latency")
+                .register(registry);
+        this.triageMatched = triageTimer("true");
+        this.triageUnmatched = triageTimer("false");
+    }
+
+    @Override
+    public void validationCompleted(long nanos, boolean valid) {
+        (valid ? validValidations : invalidValidations).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void revalidationCompleted(long nanos, int rulesChecked, boolean valid) {
+        (valid ? validRevalidations : invalidRevalidations).record(nanos, TimeUnit.NANOSECONDS);
+        revalidatedRules.record(rulesChecked);
+    }
+
+    @Override
+    public void validationRuleFailed(String rule) {
+        ruleFailures.computeIfAbsent(rule, r -> Counter.builder("netra.dispute.validation.rule.failures")
+                .description("Dispute requests rejected per validation rule")
+                .tag("rule", r)
+                .register(registry)).increment();
+    }
+
+    @Override
+    public void disputeKeyGenerated(long nanos) {
+        keyGeneration.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void triageCompleted(long nanos, boolean matched) {
+        (matched ? triageMatched : triageUnmatched).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void endpointCallCompleted(String domainCode, long nanos, String errorType) {
+        String domain = domainCode == null ? "unknown" : domainCode;
+        Timer timer = errorType == null
+                ? endpointSuccesses.computeIfAbsent(domain, d -> endpointTimer(d, "none"))
+                : endpointFailures.computeIfAbsent(domain, d -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(errorType, e -> endpointTimer(domain, e));
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer validationTimer(String valid) {
+        return Timer.builder("netra.dispute.validation")
+                .description("DisputeRequestValidator.isValid latency")
+                .tag("valid", valid)
+                .register(registry);
+    }
+
+    private Timer revalidationTimer(String valid) {
+        return Timer.builder("netra.dispute.revalidation")
+                .description("Partial re-validation latency after a dispute update")
+                .tag("valid", valid)
+                .register(registry);
+    }
+
+    private Timer triageTimer(String matched) {
+        return Timer.builder("netra.dispute.triage")
+                .description("Triage rule evaluation latency")
+                .tag("matched", matched)
+                .register(registry);
+    }
+
+    private Timer endpointTimer(String domainCode, String errorType) {
+        return Timer.builder("netra.endpoint.calls")
+                .description("Latency of calls to EndpointConfig-described endpoints")
+                .tag("domainCode", domainCode)
+                .tag("error", errorType)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
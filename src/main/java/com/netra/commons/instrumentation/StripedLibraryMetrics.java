@@ -0,0 +1,111 @@
+package com.netra.commons.instrumentation;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory {@link LibraryMetrics} for services without a metrics backend, and for tests.
+ * Counters are {@link LongAdder}s, which stripe updates across per-thread cells, so recording
+ * stays in the tens of nanoseconds under contention.
+ */
+public class StripedLibraryMetrics implements LibraryMetrics {
+
+    private final LatencyHistogram validationLatency = new LatencyHistogram();
+    private final LongAdder invalidRequests = new LongAdder();
+    private final LatencyHistogram revalidationLatency = new LatencyHistogram();
+    private final LongAdder revalidatedRules = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> ruleFailures = new ConcurrentHashMap<>();
+    private final LatencyHistogram keyGenerationLatency = new LatencyHistogram();
+    private final LatencyHistogram triageLatency = new LatencyHistogram();
+    private final LongAdder triageMatches = new LongAdder();
+    private final ConcurrentHashMap<String, LatencyHistogram> endpointLatency = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, LongAdder>> endpointErrors = new ConcurrentHashMap<>();
+
+    @Override
+    public void validationCompleted(long nanos, boolean valid) {
+        validationLatency.record(nanos);
+        if (!valid) invalidRequests.increment();
+    }
+
+    @Override
+    public void revalidationCompleted(long nanos, int rulesChecked, boolean valid) {
+        revalidationLatency.record(nanos);
+        revalidatedRules.add(rulesChecked);
+    }
+
+    @Override
+    public void validationRuleFailed(String rule) {
+        ruleFailures.computeIfAbsent(rule, k -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void disputeKeyGenerated(long nanos) {
+        keyGenerationLatency.record(nanos);
+    }
+
+    @Override
+    public void triageCompleted(long nanos, boolean matched) {
+        triageLatency.record(nanos);
+        if (matched) triageMatches.increment();
+    }
+
+    @Override
+    public void endpointCallCompleted(String domainCode, long nanos, String errorType) {
+        String domain = domainCode == null ? "unknown" : domainCode;
+        endpointLatency.computeIfAbsent(domain, k -> new LatencyHistogram()).record(nanos);
+        if (errorType != null) {
+            endpointErrors.computeIfAbsent(domain, k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(errorType, k -> new LongAdder())
+                    .increment();
+        }
+    }
+
+    public LatencyHistogram getValidationLatency() {
+        return validationLatency;
+    }
+
+    public long getInvalidRequests() {
+        return invalidRequests.sum();
+    }
+
+    public LatencyHistogram getRevalidationLatency() {
+        return revalidationLatency;
+    }
+
+    public long getRevalidatedRules() {
+        return revalidatedRules.sum();
+    }
+
+    public Map<String, Long> getRuleFailures() {
+        return snapshot(ruleFailures);
+    }
+
+    public LatencyHistogram getKeyGenerationLatency() {
+        return keyGenerationLatency;
+    }
+
+    public LatencyHistogram getTriageLatency() {
+        return triageLatency;
+    }
+
+    public long getTriageMatches() {
+        return triageMatches.sum();
+    }
+
+    public Map<String, LatencyHistogram> getEndpointLatency() {
+        return new TreeMap<>(endpointLatency);
+    }
+
+    public Map<String, Long> getEndpointErrors(String domainCode) {
+        Map<String, LongAdder> errors = endpointErrors.get(domainCode);
+        return errors == null ? Map.of() : snapshot(errors);
+    }
+
+    private static Map<String, Long> snapshot(Map<String, LongAdder> counters) {
+        Map<String, Long> snapshot = new TreeMap<>();
+        counters.forEach((name, counter) -> snapshot.put(name, counter.sum()));
+        return snapshot;
+    }
+}
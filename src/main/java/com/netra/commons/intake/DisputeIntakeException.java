@@ -0,0 +1,38 @@
+package com.netra.commons.intake;
+
+import jakarta.validation.ConstraintViolation;
+
+import java.util.Set;
+
+public class DisputeIntakeException extends RuntimeException {
+
+    public enum Reason {
+        INVALID_REQUEST,
+        DEPENDENCY_FAILED,
+        DEADLINE_EXCEEDED,
+        INTERRUPTED
+    }
+
+    private final Reason reason;
+    private final Set<? extends ConstraintViolation<?>> violations;
+
+    public DisputeIntakeException(Reason reason, String message, Throwable cause) {
+        super(message, cause);
+        this.reason = reason;
+        this.violations = Set.of();
+    }
+
+    public DisputeIntakeException(Set<? extends ConstraintViolation<?>> violations) {
+        super("Dispute request is invalid: " + violations.size() + " violation(s)");
+        this.reason = Reason.INVALID_REQUEST;
+        this.violations = violations;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public Set<? extends ConstraintViolation<?>> getViolations() {
+        return violations;
+    }
+}
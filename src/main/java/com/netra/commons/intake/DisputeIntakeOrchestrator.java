@@ -0,0 +1,241 @@
+package com.netra.commons.intake;
+
+import com.netra.commons.contracts.Domain;
+import com.netra.commons.enums.TransactionParticipationRole;
+import com.netra.commons.features.DisputeFeatureVector;
+import com.netra.commons.instrumentation.Instrumentation;
+import com.netra.commons.models.EndpointConfig;
+import com.netra.commons.models.Evidence;
+import com.netra.commons.models.Transaction;
+import com.netra.commons.models.TransactionParticipant;
+import com.netra.commons.models.TransactionType;
+import com.netra.commons.models.TriageDecisionRule;
+import com.netra.commons.requests.CreateDisputeRequest;
+import com.netra.commons.requests.util.DisputeRequestUtil;
+import com.netra.commons.requests.util.TransactionRailDTO;
+import com.netra.commons.triage.TriageEvaluator;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Runs the dispute intake flow around a {@link CreateDisputeRequest}: validate, then concurrently
+ * enrich every participant, look up the transaction through the issuer's {@link EndpointConfig} and
+ * inspect every evidence, then re-validate the request with the looked-up transaction and enriched
+ * participants, generate the dispute key from them, and triage. The caller's request is left as it
+ * was; the result carries an enriched copy.
+ *
+ * The concurrent steps each run on their own virtual thread, so intake latency tracks the slowest
+ * dependency rather than the sum of them. The first failing step cancels (interrupts) its siblings,
+ * and the flow up to triage is bounded by one end-to-end deadline. Triage is in-process and starts
+ * only within the deadline; once started its result is kept.
+ *
+ * Collaborators other than the validator may be null, in which case that step is skipped.
+ */
+public class DisputeIntakeOrchestrator implements AutoCloseable {
+
+    private final Validator validator;
+    private final ParticipantEnricher participantEnricher;
+    private final Function<Domain, EndpointConfig> endpointResolver;
+    private final TransactionLookup transactionLookup;
+    private final EvidenceInspector evidenceInspector;
+    private final Function<TransactionType, TriageEvaluator> triageEvaluators;
+    private final Duration deadline;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public DisputeIntakeOrchestrator(Validator validator,
+                                     ParticipantEnricher participantEnricher,
+                                     Function<Domain, EndpointConfig> endpointResolver,
+                                     TransactionLookup transactionLookup,
+                                     EvidenceInspector evidenceInspector,
+                                     Function<TransactionType, TriageEvaluator> triageEvaluators,
+                                     Duration deadline) {
+        if (validator == null || deadline == null || deadline.isNegative() || deadline.isZero()) {
+            throw new IllegalArgumentException("A validator and a positive deadline are required");
+        }
+        this.validator = validator;
+        this.participantEnricher = participantEnricher;
+        this.endpointResolver = endpointResolver;
+        this.transactionLookup = transactionLookup;
+        this.evidenceInspector = evidenceInspector;
+        this.triageEvaluators = triageEvaluators;
+        this.deadline = deadline;
+    }
+
+    public DisputeIntakeResult intake(CreateDisputeRequest request) {
+        long start = System.nanoTime();
+        long deadlineNanos = start + deadline.toNanos();
+
+        Set<ConstraintViolation<CreateDisputeRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new DisputeIntakeException(violations);
+        }
+
+        List<TransactionParticipant> participants = request.getParticipants() == null ? List.of() : request.getParticipants();
+        List<Evidence> evidences = request.getEvidences() == null ? List.of() : request.getEvidences();
+
+        TransactionParticipant[] enriched = participants.toArray(new TransactionParticipant[0]);
+        Transaction[] transaction = {request.getTransaction()};
+
+        List<Callable<Void>> steps = new ArrayList<>(1 + participants.size() + evidences.size());
+        if (participantEnricher != null) {
+            for (int i = 0; i < enriched.length; i++) {
+                int index = i;
+                steps.add(() -> {
+                    TransactionParticipant result = participantEnricher.enrich(enriched[index]);
+                    if (result != null) enriched[index] = result;
+                    return null;
+                });
+            }
+        }
+        if (transactionLookup != null && endpointResolver != null) {
+            steps.add(() -> {
+                // resolved here so a slow resolver runs under the deadline, off the caller's thread
+                EndpointConfig issuerEndpoint = issuerEndpoint(participants);
+                if (issuerEndpoint == null) return null;
+                Transaction found = Instrumentation.timeEndpointCall(issuerEndpoint,
+                        () -> transactionLookup.lookup(issuerEndpoint, request.getTransaction()));
+                if (found != null) transaction[0] = found;
+                return null;
+            });
+        }
+        if (evidenceInspector != null) {
+            for (Evidence evidence : evidences) {
+                steps.add(() -> {
+                    evidenceInspector.inspect(evidence);
+                    return null;
+                });
+            }
+        }
+
+        runAll(steps, deadlineNanos);
+
+        // only now are the transaction and participants final; the steps above must not read them
+        CreateDisputeRequest enrichedRequest = copyOf(request);
+        if (request.getParticipants() != null) {
+            enrichedRequest.setParticipants(new ArrayList<>(Arrays.asList(enriched)));
+        }
+        enrichedRequest.setTransaction(transaction[0]);
+        if (transaction[0] != request.getTransaction() || participantEnricher != null) {
+            violations = validator.validate(enrichedRequest);
+            if (!violations.isEmpty()) {
+                throw new DisputeIntakeException(violations);
+            }
+        }
+
+        String missing = missingKeyField(enrichedRequest);
+        if (missing != null) {
+            throw new DisputeIntakeException(DisputeIntakeException.Reason.INVALID_REQUEST,
+                    "Dispute key cannot be generated: " + missing + " is required", null);
+        }
+        String disputeKey = DisputeRequestUtil.generateDisputeKey(enrichedRequest);
+
+        if (System.nanoTime() - deadlineNanos > 0) {
+            throw new DisputeIntakeException(DisputeIntakeException.Reason.DEADLINE_EXCEEDED,
+                    "Dispute intake exceeded its " + deadline.toMillis() + "ms deadline before triage", null);
+        }
+        TriageDecisionRule rule = null;
+        if (triageEvaluators != null && transaction[0].getTransactionType() != null) {
+            TriageEvaluator evaluator = triageEvaluators.apply(transaction[0].getTransactionType());
+            if (evaluator != null) {
+                rule = evaluator.evaluate(enrichedRequest, DisputeFeatureVector.of(enrichedRequest)).orElse(null);
+            }
+        }
+
+        return new DisputeIntakeResult(enrichedRequest, disputeKey, rule, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    // Everything DisputeRequestUtil.generateDisputeKey dereferences, or null when it is all there.
+    private static String missingKeyField(CreateDisputeRequest request) {
+        Transaction transaction = request.getTransaction();
+        if (transaction == null) return "transaction";
+        if (transaction.getTransactionDate() == null) return "transaction.transactionDate";
+        if (transaction.getTransactionType() == null) return "transaction.transactionType";
+        TransactionRailDTO rail = transaction.getTransactionRailDTO();
+        if (rail == null || rail.getInstrument() == null || rail.getChannel() == null) {
+            return "transaction.transactionRailDTO instrument and channel";
+        }
+        if (request.getParticipants() != null) {
+            for (TransactionParticipant participant : request.getParticipants()) {
+                if (participant != null && participant.getTransactionParticipationRole() == TransactionParticipationRole.ISSUER) {
+                    return participant.getParticipant() == null ? "participants.ISSUER.participant" : null;
+                }
+            }
+        }
+        return "an ISSUER participant";
+    }
+
+    private static CreateDisputeRequest copyOf(CreateDisputeRequest request) {
+        CreateDisputeRequest copy = new CreateDisputeRequest();
+        copy.setInitiator(request.getInitiator());
+        copy.setTransaction(request.getTransaction());
+        copy.setParticipants(request.getParticipants());
+        copy.setEvidences(request.getEvidences());
+        copy.setDisputeAmountType(request.getDisputeAmountType());
+        copy.setMode(request.getMode());
+        copy.setNote(request.getNote());
+        copy.setDisputedAmount(request.getDisputedAmount());
+        copy.setAccountDetail(request.getAccountDetail());
+        return copy;
+    }
+
+    private EndpointConfig issuerEndpoint(List<TransactionParticipant> participants) {
+        for (TransactionParticipant participant : participants) {
+            if (participant.getTransactionParticipationRole() == TransactionParticipationRole.ISSUER
+                    && participant.getParticipant() != null) {
+                return endpointResolver.apply(participant.getParticipant());
+            }
+        }
+        return null;
+    }
+
+    // Waits for every step, failing fast: the first error or the deadline cancels whatever is still running.
+    private void runAll(List<Callable<Void>> steps, long deadlineNanos) {
+        CompletionService<Void> completion = new ExecutorCompletionService<>(executor);
+        List<Future<Void>> futures = new ArrayList<>(steps.size());
+        try {
+            for (Callable<Void> step : steps) {
+                futures.add(completion.submit(step));
+            }
+            for (int done = 0; done < futures.size(); done++) {
+                Future<Void> next = completion.poll(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    throw new DisputeIntakeException(DisputeIntakeException.Reason.DEADLINE_EXCEEDED,
+                            "Dispute intake exceeded its " + deadline.toMillis() + "ms deadline", null);
+                }
+                next.get();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DisputeIntakeException intakeException) throw intakeException;
+            throw new DisputeIntakeException(DisputeIntakeException.Reason.DEPENDENCY_FAILED,
+                    "Dispute intake step failed: " + cause.getMessage(), cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DisputeIntakeException(DisputeIntakeException.Reason.INTERRUPTED, "Dispute intake interrupted", e);
+        } finally {
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.netra.commons.intake;
+
+import com.netra.commons.models.TriageDecisionRule;
+import com.netra.commons.requests.CreateDisputeRequest;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public class DisputeIntakeResult {
+
+    private final CreateDisputeRequest request;
+    private final String disputeKey;
+    private final TriageDecisionRule triageRule;
+    private final Duration elapsed;
+
+    public DisputeIntakeResult(CreateDisputeRequest request, String disputeKey, TriageDecisionRule triageRule, Duration elapsed) {
+        this.request = request;
+        this.disputeKey = disputeKey;
+        this.triageRule = triageRule;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * A copy of the submitted request with enriched participants and, when looked up, the
+     * authoritative transaction; the submitted request itself is not modified.
+     */
+    public CreateDisputeRequest getRequest() {
+        return request;
+    }
+
+    public String getDisputeKey() {
+        return disputeKey;
+    }
+
+    public Optional<TriageDecisionRule> getTriageRule() {
+        return Optional.ofNullable(triageRule);
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+}
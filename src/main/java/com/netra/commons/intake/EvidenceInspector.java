@@ -0,0 +1,13 @@
+package com.netra.commons.intake;
+
+import com.netra.commons.models.Evidence;
+
+/**
+ * Checks one evidence's stored metadata (object exists, size and content type match, ...). Throw to
+ * reject the dispute. Called once per evidence, concurrently, on a virtual thread.
+ */
+@FunctionalInterface
+public interface EvidenceInspector {
+
+    void inspect(Evidence evidence) throws Exception;
+}
@@ -0,0 +1,13 @@
+package com.netra.commons.intake;
+
+import com.netra.commons.models.TransactionParticipant;
+
+/**
+ * Resolves a participant's {@code Domain} (and account) against reference data. Called once per
+ * participant, concurrently; may block, since it runs on a virtual thread.
+ */
+@FunctionalInterface
+public interface ParticipantEnricher {
+
+    TransactionParticipant enrich(TransactionParticipant participant) throws Exception;
+}
@@ -0,0 +1,17 @@
+package com.netra.commons.intake;
+
+import com.netra.commons.models.EndpointConfig;
+import com.netra.commons.models.Transaction;
+
+/**
+ * Fetches the authoritative record of the disputed transaction from the issuer's endpoint.
+ * May block, since it runs on a virtual thread.
+ */
+@FunctionalInterface
+public interface TransactionLookup {
+
+    /**
+     * Returns the transaction as the endpoint knows it, or {@code null} to keep the submitted one.
+     */
+    Transaction lookup(EndpointConfig endpoint, Transaction submitted) throws Exception;
+}
@@ -1,10 +1,12 @@
 package com.netra.commons.models;
 
 import com.netra.commons.enums.DomainType;
+import lombok.Data;
 
 import java.util.*;
 import java.util.regex.Pattern;
 
+@Data
 public class EndpointConfig extends BaseEntity {
 
 
@@ -98,10 +100,5 @@ public class EndpointConfig extends BaseEntity {
     public void setMultipleTransactionParamList(List<String> params) {
         this.multipleTransactionParams = joinParams(params, ParamSeparator.MULTIPLE_PARAM_SEPARATOR);
     }
-
-    // ========= Getters and Setters ========= //
-
-    // (Omitted here for brevity — generate with your IDE or Lombok if allowed)
-
 }
 
@@ -0,0 +1,22 @@
+package com.netra.commons.notification;
+
+import com.netra.commons.models.EndpointConfig;
+import com.netra.commons.models.TransactionParticipant;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Transport used by {@link ParticipantNotificationDispatcher}. Implementations must not block the
+ * calling thread: return a future and complete it from the client's own I/O threads.
+ */
+@FunctionalInterface
+public interface NotificationSender {
+
+    /**
+     * Sends one batch of participants that share the same {@link EndpointConfig}.
+     * Complete with {@code true} when the endpoint acknowledged in the same exchange, {@code false}
+     * when the acknowledgement will arrive later, or exceptionally to have the batch retried.
+     */
+    CompletableFuture<Boolean> send(EndpointConfig endpoint, List<TransactionParticipant> batch);
+}
@@ -0,0 +1,355 @@
+package com.netra.commons.notification;
+
+import com.netra.commons.contracts.Domain;
+import com.netra.commons.instrumentation.Instrumentation;
+import com.netra.commons.models.EndpointConfig;
+import com.netra.commons.models.TransactionParticipant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Queues participant notifications per {@link Domain} and sends them in batches through a
+ * non-blocking {@link NotificationSender}.
+ *
+ * Domains with pending work take turns on a round-robin ready queue and each domain has at most one
+ * batch in flight (or in backoff), so a slow institution only ever holds one of the
+ * {@code maxInFlightBatches} slots and cannot starve the others. Failed batches are retried with
+ * exponential backoff and full jitter; when they finally succeed {@code notifiedAt}, and
+ * {@code acknowledgeAt} if the endpoint acknowledged, are stamped on the participants.
+ *
+ * Stamping happens on the sender's completion thread. Persist the stamps from the
+ * {@linkplain #setDeliveryHandler delivery handler}, which runs on that thread right after them;
+ * reading the participants from anywhere else races with the stamping.
+ */
+public class ParticipantNotificationDispatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ParticipantNotificationDispatcher.class);
+    // extra wait on close for a drain pass that is mid-way through handing batches to the sender
+    private static final long DRAIN_GRACE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final NotificationSender sender;
+    private final Function<Domain, EndpointConfig> endpointResolver;
+    private final int maxBatchSize;
+    private final int maxInFlightBatches;
+    private final int maxAttempts;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final Clock clock;
+
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentHashMap<String, DomainQueue> queues = new ConcurrentHashMap<>();
+    private final Queue<DomainQueue> ready = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private final AtomicBoolean closing = new AtomicBoolean();
+    private volatile boolean closed;
+
+    private volatile Consumer<List<TransactionParticipant>> deliveryHandler = batch -> { };
+    private volatile BiConsumer<List<TransactionParticipant>, Throwable> failureHandler = (batch, error) -> { };
+
+    public ParticipantNotificationDispatcher(NotificationSender sender, Function<Domain, EndpointConfig> endpointResolver) {
+        this(sender, endpointResolver, 50, 64, 5, Duration.ofMillis(200), Duration.ofSeconds(30), Clock.systemDefaultZone());
+    }
+
+    public ParticipantNotificationDispatcher(NotificationSender sender,
+                                             Function<Domain, EndpointConfig> endpointResolver,
+                                             int maxBatchSize,
+                                             int maxInFlightBatches,
+                                             int maxAttempts,
+                                             Duration baseBackoff,
+                                             Duration maxBackoff,
+                                             Clock clock) {
+        if (maxBatchSize <= 0 || maxInFlightBatches <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("Batch size, in-flight limit and attempts must be positive");
+        }
+        this.sender = sender;
+        this.endpointResolver = endpointResolver;
+        this.maxBatchSize = maxBatchSize;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMillis = baseBackoff.toMillis();
+        this.maxBackoffMillis = maxBackoff.toMillis();
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "netra-notification-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Called with a batch that exhausted its attempts; its participants keep a null {@code notifiedAt}.
+     */
+    public void setFailureHandler(BiConsumer<List<TransactionParticipant>, Throwable> failureHandler) {
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Called with a batch once it was delivered and its participants stamped; the place to persist
+     * {@code notifiedAt} and {@code acknowledgeAt}.
+     */
+    public void setDeliveryHandler(Consumer<List<TransactionParticipant>> deliveryHandler) {
+        this.deliveryHandler = deliveryHandler;
+    }
+
+    public void submit(TransactionParticipant participant) {
+        if (closing.get()) {
+            throw new IllegalStateException("Notification dispatcher is closed");
+        }
+        Domain domain = participant.getParticipant();
+        if (domain == null) {
+            throw new IllegalArgumentException("Participant domain is required for notification");
+        }
+        DomainQueue queue = queues.computeIfAbsent(domain.getDomainType() + ":" + domain.getCode(), k -> new DomainQueue(domain));
+        queue.pending.add(participant);
+        if (queue.active.compareAndSet(false, true)) {
+            ready.add(queue);
+        }
+        requestDrain();
+    }
+
+    public void submitAll(List<TransactionParticipant> participants) {
+        for (TransactionParticipant participant : participants) {
+            submit(participant);
+        }
+    }
+
+    /**
+     * Records an acknowledgement that arrived outside the send exchange, e.g. via a callback endpoint.
+     */
+    public void acknowledge(TransactionParticipant participant) {
+        if (participant.getAcknowledgeAt() == null) {
+            participant.setAcknowledgeAt(LocalDateTime.now(clock));
+        }
+    }
+
+    public int pendingCount() {
+        int total = 0;
+        for (DomainQueue queue : queues.values()) {
+            total += queue.pending.size();
+            List<TransactionParticipant> retry = queue.retryBatch;
+            if (retry != null) total += retry.size();
+        }
+        return total;
+    }
+
+    @Override
+    public void close() {
+        close(Duration.ofSeconds(5));
+    }
+
+    /**
+     * Stops accepting notifications and waits up to {@code timeout} for queued and in-flight batches.
+     * Whatever is still undelivered afterwards goes to the failure handler, once a drain pass already
+     * handing out batches has finished; batches completing later are still stamped and reported, but
+     * nothing new is sent.
+     */
+    public void close(Duration timeout) {
+        if (!closing.compareAndSet(false, true)) return;
+        long deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            while ((pendingCount() > 0 || inFlight.get() > 0) && System.nanoTime() - deadline < 0) {
+                Thread.sleep(10);
+            }
+            closed = true;
+            scheduler.shutdownNow();
+            // a running drain may still take a batch or set retryBatch; collect only once it is done
+            if (!scheduler.awaitTermination(Math.max(0, deadline - System.nanoTime()) + DRAIN_GRACE_NANOS, TimeUnit.NANOSECONDS)) {
+                log.warn("Notification drain still running after close; undelivered notifications may be reported late");
+            }
+        } catch (InterruptedException e) {
+            closed = true;
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        IllegalStateException notSent = new IllegalStateException("Notification dispatcher closed before delivery");
+        for (DomainQueue queue : queues.values()) {
+            List<TransactionParticipant> undelivered = new ArrayList<>();
+            synchronized (queue) {
+                List<TransactionParticipant> retry = queue.retryBatch;
+                queue.retryBatch = null;
+                if (retry != null) undelivered.addAll(retry);
+            }
+            TransactionParticipant next;
+            while ((next = queue.pending.poll()) != null) {
+                undelivered.add(next);
+            }
+            if (!undelivered.isEmpty()) {
+                invoke(failureHandler, undelivered, notSent);
+            }
+        }
+    }
+
+    private void requestDrain() {
+        if (closed) return;
+        if (drainRequests.getAndIncrement() == 0) {
+            try {
+                scheduler.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // closed meanwhile; close() reports what is left
+            }
+        }
+    }
+
+    // Runs on the scheduler thread only; drainRequests collapses concurrent wake-ups into one pass.
+    private void drain() {
+        do {
+            while (!closed && inFlight.get() < maxInFlightBatches) {
+                DomainQueue queue = ready.poll();
+                if (queue == null) break;
+                dispatch(queue);
+            }
+        } while (drainRequests.decrementAndGet() != 0);
+    }
+
+    private void dispatch(DomainQueue queue) {
+        List<TransactionParticipant> batch = queue.retryBatch;
+        queue.retryBatch = null;
+        if (batch == null) {
+            queue.attempt = 0;
+            batch = new ArrayList<>(Math.min(maxBatchSize, queue.pending.size()));
+            TransactionParticipant next;
+            while (batch.size() < maxBatchSize && (next = queue.pending.poll()) != null) {
+                batch.add(next);
+            }
+            if (batch.isEmpty()) {
+                release(queue);
+                return;
+            }
+        }
+        queue.attempt++;
+        inFlight.incrementAndGet();
+
+        CompletableFuture<Boolean> result;
+        try {
+            EndpointConfig endpoint = endpointResolver.apply(queue.domain);
+            if (endpoint == null) {
+                throw new IllegalStateException("No endpoint configured for " + queue.domain.getCode());
+            }
+            List<TransactionParticipant> outgoing = batch;
+            result = Instrumentation.timeEndpointCallAsync(endpoint, () -> {
+                CompletableFuture<Boolean> sent = sender.send(endpoint, outgoing);
+                return endpoint.getTimeoutMillis() > 0
+                        ? sent.orTimeout(endpoint.getTimeoutMillis(), TimeUnit.MILLISECONDS)
+                        : sent;
+            });
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+
+        List<TransactionParticipant> sent = batch;
+        result.whenComplete((acknowledged, error) -> {
+            try {
+                if (error == null) {
+                    LocalDateTime now = LocalDateTime.now(clock);
+                    for (TransactionParticipant participant : sent) {
+                        participant.setNotifiedAt(now);
+                        if (Boolean.TRUE.equals(acknowledged)) {
+                            participant.setAcknowledgeAt(now);
+                        }
+                    }
+                    try {
+                        invoke(deliveryHandler, sent);
+                    } finally {
+                        release(queue);
+                    }
+                } else if (queue.attempt >= maxAttempts || closed || !scheduleRetry(queue, sent)) {
+                    try {
+                        invoke(failureHandler, sent, error);
+                    } finally {
+                        release(queue);
+                    }
+                }
+            } finally {
+                inFlight.decrementAndGet();
+                requestDrain();
+            }
+        });
+    }
+
+    // Under the queue lock so close() either sees the retry batch or the rejection, never both.
+    private boolean scheduleRetry(DomainQueue queue, List<TransactionParticipant> batch) {
+        synchronized (queue) {
+            queue.retryBatch = batch;
+            try {
+                scheduler.schedule(() -> {
+                    ready.add(queue);
+                    requestDrain();
+                }, backoffMillis(queue.attempt), TimeUnit.MILLISECONDS);
+                return true;
+            } catch (RejectedExecutionException e) {
+                queue.retryBatch = null;
+                return false;
+            }
+        }
+    }
+
+    private static void invoke(Consumer<List<TransactionParticipant>> handler, List<TransactionParticipant> batch) {
+        try {
+            handler.accept(batch);
+        } catch (RuntimeException e) {
+            log.warn("Notification delivery handler failed for a batch of {}", batch.size(), e);
+        }
+    }
+
+    private static void invoke(BiConsumer<List<TransactionParticipant>, Throwable> handler,
+                               List<TransactionParticipant> batch, Throwable error) {
+        try {
+            handler.accept(batch, error);
+        } catch (RuntimeException e) {
+            log.warn("Notification failure handler failed for a batch of {}", batch.size(), e);
+        }
+    }
+
+    // Puts the domain back at the tail of the ready queue if it still has work, otherwise parks it.
+    private void release(DomainQueue queue) {
+        if (!queue.pending.isEmpty()) {
+            ready.add(queue);
+            return;
+        }
+        queue.active.set(false);
+        if (!queue.pending.isEmpty() && queue.active.compareAndSet(false, true)) {
+            ready.add(queue);
+        }
+    }
+
+    private long backoffMillis(int attempt) {
+        long ceiling = baseBackoffMillis << Math.min(attempt - 1, 20);
+        ceiling = Math.min(maxBackoffMillis, Math.max(1, ceiling));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private static final class DomainQueue {
+        private final Domain domain;
+        private final Queue<TransactionParticipant> pending = new ConcurrentLinkedQueue<>();
+        // true while the domain is in the ready queue, in flight or backing off
+        private final AtomicBoolean active = new AtomicBoolean();
+        private volatile List<TransactionParticipant> retryBatch;
+        private volatile int attempt;
+
+        private DomainQueue(Domain domain) {
+            this.domain = domain;
+        }
+    }
+}
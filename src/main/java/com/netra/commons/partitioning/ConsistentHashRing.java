@@ -0,0 +1,122 @@
+package com.netra.commons.partitioning;
+
+import com.netra.commons.util.LongHash;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Consistent-hash ring with virtual nodes and weighted members.
+ *
+ * Each member owns {@code weight * virtualNodesPerWeight} points on a 64-bit ring; a key belongs to
+ * the first point at or after its hash. Adding or removing a member only moves the keys between its
+ * points and their predecessors, roughly {@code 1/n} of the keyspace.
+ *
+ * Lookups binary-search an immutable snapshot and never lock; membership changes rebuild the
+ * snapshot and publish it atomically.
+ */
+public class ConsistentHashRing<N> {
+
+    private final Function<N, String> memberId;
+    private final int virtualNodesPerWeight;
+    private final Map<N, Integer> weights = new LinkedHashMap<>();
+    private volatile Snapshot<N> snapshot = new Snapshot<>(new long[0], new Object[0]);
+
+    /**
+     * @param memberId stable identity of a member (e.g. host:port); it positions the member's points,
+     *                 so it must not change across restarts
+     */
+    public ConsistentHashRing(Function<N, String> memberId, int virtualNodesPerWeight) {
+        if (virtualNodesPerWeight <= 0) {
+            throw new IllegalArgumentException("Virtual nodes per weight must be positive");
+        }
+        this.memberId = memberId;
+        this.virtualNodesPerWeight = virtualNodesPerWeight;
+    }
+
+    public ConsistentHashRing(Function<N, String> memberId) {
+        this(memberId, 160);
+    }
+
+    public synchronized void addMember(N member, int weight) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Member weight must be positive");
+        }
+        weights.put(member, weight);
+        rebuild();
+    }
+
+    public synchronized boolean removeMember(N member) {
+        if (weights.remove(member) == null) return false;
+        rebuild();
+        return true;
+    }
+
+    public synchronized Map<N, Integer> members() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(weights));
+    }
+
+    public boolean isEmpty() {
+        return snapshot.points.length == 0;
+    }
+
+    public N locate(CharSequence key) {
+        return locate(LongHash.hash(key));
+    }
+
+    /**
+     * Owner of an already well-distributed 64-bit hash; returns null while the ring is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public N locate(long hash) {
+        Snapshot<N> current = snapshot;
+        long[] points = current.points;
+        if (points.length == 0) return null;
+
+        int index = Arrays.binarySearch(points, hash);
+        if (index < 0) index = -index - 1;
+        if (index == points.length) index = 0;
+        return (N) current.owners[index];
+    }
+
+    private void rebuild() {
+        int total = 0;
+        for (int weight : weights.values()) total += weight * virtualNodesPerWeight;
+
+        long[] points = new long[total];
+        Object[] owners = new Object[total];
+        int i = 0;
+        for (Map.Entry<N, Integer> entry : weights.entrySet()) {
+            long base = LongHash.hash(memberId.apply(entry.getKey()));
+            int count = entry.getValue() * virtualNodesPerWeight;
+            for (int v = 0; v < count; v++) {
+                points[i] = LongHash.combine(base, v);
+                owners[i] = entry.getKey();
+                i++;
+            }
+        }
+        sortTogether(points, owners);
+        this.snapshot = new Snapshot<>(points, owners);
+    }
+
+    private static void sortTogether(long[] points, Object[] owners) {
+        Integer[] order = new Integer[points.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Long.compare(points[a], points[b]));
+
+        long[] sortedPoints = new long[points.length];
+        Object[] sortedOwners = new Object[owners.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedPoints[i] = points[order[i]];
+            sortedOwners[i] = owners[order[i]];
+        }
+        System.arraycopy(sortedPoints, 0, points, 0, points.length);
+        System.arraycopy(sortedOwners, 0, owners, 0, owners.length);
+    }
+
+    private record Snapshot<N>(long[] points, Object[] owners) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.netra.commons.partitioning;
+
+import com.netra.commons.enums.TransactionParticipationRole;
+import com.netra.commons.models.TransactionParticipant;
+import com.netra.commons.requests.CreateDisputeRequest;
+import com.netra.commons.requests.util.DisputeRequestUtil;
+import com.netra.commons.util.LongHash;
+
+/**
+ * Routes dispute work to cluster members over a {@link ConsistentHashRing}.
+ *
+ * With {@link Affinity#ISSUER} every dispute of an issuing {@code FinancialInstitution} lands on the
+ * same member, keeping that issuer's caches warm; {@link Affinity#DISPUTE} spreads load evenly while
+ * still pinning each dispute to one member.
+ */
+public class DisputePartitioner<N> {
+
+    public enum Affinity {
+        DISPUTE,
+        ISSUER
+    }
+
+    private final ConsistentHashRing<N> ring;
+    private final Affinity affinity;
+
+    public DisputePartitioner(ConsistentHashRing<N> ring, Affinity affinity) {
+        this.ring = ring;
+        this.affinity = affinity;
+    }
+
+    /**
+     * Member owning a key produced by {@link DisputeRequestUtil#generateDisputeKey}. The key is
+     * already a SHA-256 hex digest, so its first 16 digits are used directly as the ring position.
+     */
+    public N forDisputeKey(String disputeKey) {
+        return ring.locate(disputeKeyHash(disputeKey));
+    }
+
+    public N forIssuer(String issuerCode) {
+        return ring.locate(LongHash.hash(issuerCode));
+    }
+
+    /**
+     * Member for a request: its issuer's member under {@link Affinity#ISSUER} (falling back to the
+     * dispute key when no ISSUER participant is present), otherwise its dispute key's member.
+     */
+    public N forRequest(CreateDisputeRequest request) {
+        if (affinity == Affinity.ISSUER) {
+            String issuer = issuerCode(request);
+            if (issuer != null) return forIssuer(issuer);
+        }
+        return forDisputeKey(DisputeRequestUtil.generateDisputeKey(request));
+    }
+
+    public ConsistentHashRing<N> getRing() {
+        return ring;
+    }
+
+    static long disputeKeyHash(String disputeKey) {
+        if (disputeKey == null || disputeKey.length() < 16) return LongHash.hash(disputeKey);
+        long hash = 0;
+        for (int i = 0; i < 16; i++) {
+            int digit = Character.digit(disputeKey.charAt(i), 16);
+            if (digit < 0) return LongHash.hash(disputeKey);
+            hash = (hash << 4) | digit;
+        }
+        return hash;
+    }
+
+    private static String issuerCode(CreateDisputeRequest request) {
+        if (request.getParticipants() == null) return null;
+        for (TransactionParticipant participant : request.getParticipants()) {
+            if (participant.getTransactionParticipationRole() == TransactionParticipationRole.ISSUER
+                    && participant.getParticipant() != null) {
+                return participant.getParticipant().getCode();
+            }
+        }
+        return null;
+    }
+}
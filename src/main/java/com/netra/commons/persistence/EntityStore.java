@@ -0,0 +1,23 @@
+package com.netra.commons.persistence;
+
+import com.netra.commons.models.BaseEntity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Storage SPI for one {@link BaseEntity} type, keyed by {@link BaseEntity#getId()}.
+ * Implementations should write each batch in as few round trips as the backend allows.
+ */
+public interface EntityStore<T extends BaseEntity> {
+
+    /**
+     * Inserts or updates every entity; ids are assigned by the caller.
+     */
+    void saveAll(List<T> entities);
+
+    void deleteAll(Collection<Long> ids);
+
+    Optional<T> findById(Long id);
+}
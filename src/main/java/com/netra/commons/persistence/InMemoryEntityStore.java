@@ -0,0 +1,55 @@
+package com.netra.commons.persistence;
+
+import com.netra.commons.models.BaseEntity;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reference {@link EntityStore} backed by a map, for tests and embedded use. Counts batches and
+ * rows written so callers can observe write amplification.
+ */
+public class InMemoryEntityStore<T extends BaseEntity> implements EntityStore<T> {
+
+    private final ConcurrentHashMap<Long, T> entities = new ConcurrentHashMap<>();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder rowsWritten = new LongAdder();
+
+    @Override
+    public void saveAll(List<T> batch) {
+        for (T entity : batch) {
+            entities.put(entity.getId(), entity);
+        }
+        batches.increment();
+        rowsWritten.add(batch.size());
+    }
+
+    @Override
+    public void deleteAll(Collection<Long> ids) {
+        for (Long id : ids) {
+            entities.remove(id);
+        }
+        batches.increment();
+        rowsWritten.add(ids.size());
+    }
+
+    @Override
+    public Optional<T> findById(Long id) {
+        return Optional.ofNullable(entities.get(id));
+    }
+
+    public int size() {
+        return entities.size();
+    }
+
+    public long batches() {
+        return batches.sum();
+    }
+
+    public long rowsWritten() {
+        return rowsWritten.sum();
+    }
+}
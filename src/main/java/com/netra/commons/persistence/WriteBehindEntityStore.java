@@ -0,0 +1,275 @@
+package com.netra.commons.persistence;
+
+import com.netra.commons.models.BaseEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind {@link EntityStore}: saves and deletes are buffered per entity id and written to the
+ * delegate in batches, when {@code maxBatchSize} writes are pending or every {@code flushInterval}.
+ *
+ * Repeated writes to the same id between flushes coalesce into one row write of the latest state, so
+ * timestamp churn ({@code updatedAt}, {@code notifiedAt}, ...) during a spike costs one write per
+ * entity per flush. Reads are served from the buffer first, giving read-your-writes. The buffer holds
+ * entity references, so a flush writes whatever state the entity has at that moment.
+ *
+ * A failed batch is put back (unless overwritten meanwhile) and retried on the next flush. Once
+ * {@code maxPending} writes are buffered, writers flush inline, bounding memory when the backend
+ * falls behind. Entities must already carry their id.
+ */
+public class WriteBehindEntityStore<T extends BaseEntity> implements EntityStore<T>, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindEntityStore.class);
+
+    private final EntityStore<T> delegate;
+    private final int maxBatchSize;
+    private final int maxPending;
+
+    // id -> latest write not yet handed to the delegate
+    private final ConcurrentHashMap<Long, Pending<T>> pending = new ConcurrentHashMap<>();
+    // id -> write handed to the delegate but not yet committed; still visible to reads
+    private final ConcurrentHashMap<Long, Pending<T>> flushing = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // writers hold the read side while buffering; close() takes the write side to stop them
+    private final ReentrantReadWriteLock writeGate = new ReentrantReadWriteLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final LongAdder submittedWrites = new LongAdder();
+    private final LongAdder flushedWrites = new LongAdder();
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean closed;
+
+    public WriteBehindEntityStore(EntityStore<T> delegate) {
+        this(delegate, 500, Duration.ofMillis(200), 50_000);
+    }
+
+    public WriteBehindEntityStore(EntityStore<T> delegate, int maxBatchSize, Duration flushInterval, int maxPending) {
+        if (maxBatchSize <= 0 || maxPending < maxBatchSize || flushInterval.toMillis() <= 0) {
+            throw new IllegalArgumentException("Batch size and flush interval must be positive, and maxPending at least the batch size");
+        }
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxPending = maxPending;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "netra-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::backgroundFlush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void save(T entity) {
+        Long id = id(entity);
+        acceptWrites();
+        try {
+            buffer(id, new Pending<>(entity));
+            afterWrite();
+        } finally {
+            writeGate.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void saveAll(List<T> entities) {
+        acceptWrites();
+        try {
+            for (T entity : entities) {
+                buffer(id(entity), new Pending<>(entity));
+            }
+            afterWrite();
+        } finally {
+            writeGate.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteAll(Collection<Long> ids) {
+        acceptWrites();
+        try {
+            for (Long id : ids) {
+                if (id == null) throw new IllegalArgumentException("Entity id is required");
+                buffer(id, new Pending<>(null));
+            }
+            afterWrite();
+        } finally {
+            writeGate.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<T> findById(Long id) {
+        Pending<T> write = pending.get(id);
+        if (write == null) write = flushing.get(id);
+        if (write != null) return Optional.ofNullable(write.entity());
+        return delegate.findById(id);
+    }
+
+    /**
+     * Writes everything buffered so far to the delegate. A delegate failure is rethrown after the
+     * failed batch is put back for the next attempt.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<Map.Entry<Long, Pending<T>>> saves = new ArrayList<>(maxBatchSize);
+            List<Map.Entry<Long, Pending<T>>> deletes = new ArrayList<>();
+            for (Map.Entry<Long, Pending<T>> entry : pending.entrySet()) {
+                Map.Entry<Long, Pending<T>> write = Map.entry(entry.getKey(), entry.getValue());
+                if (write.getValue().entity() == null) {
+                    deletes.add(write);
+                    if (deletes.size() == maxBatchSize) writeBatch(deletes, true);
+                } else {
+                    saves.add(write);
+                    if (saves.size() == maxBatchSize) writeBatch(saves, false);
+                }
+            }
+            if (!saves.isEmpty()) writeBatch(saves, false);
+            if (!deletes.isEmpty()) writeBatch(deletes, true);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size() + flushing.size();
+    }
+
+    /**
+     * Writes accepted from callers; compare with {@link #flushedWrites()} for the coalescing ratio.
+     */
+    public long submittedWrites() {
+        return submittedWrites.sum();
+    }
+
+    public long flushedWrites() {
+        return flushedWrites.sum();
+    }
+
+    /**
+     * Stops the background flusher and writes out whatever is still buffered. Waits for writes
+     * already in progress, so every write that returned normally is part of the final flush.
+     */
+    @Override
+    public void close() {
+        writeGate.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            writeGate.writeLock().unlock();
+        }
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    // Takes the read side of writeGate; the caller releases it once the write is buffered.
+    private void acceptWrites() {
+        writeGate.readLock().lock();
+        if (closed) {
+            writeGate.readLock().unlock();
+            throw new IllegalStateException("Write-behind store is closed");
+        }
+    }
+
+    private void buffer(Long id, Pending<T> write) {
+        pending.put(id, write);
+        submittedWrites.increment();
+    }
+
+    private void afterWrite() {
+        int buffered = pending.size();
+        if (buffered >= maxPending) {
+            flush();
+        } else if (buffered >= maxBatchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(() -> {
+                    flushRequested.set(false);
+                    backgroundFlush();
+                });
+            } catch (RejectedExecutionException e) {
+                // not expected while writeGate is held; the write is buffered, so flush it here
+                flushRequested.set(false);
+                flush();
+            }
+        }
+    }
+
+    private void backgroundFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Write-behind flush failed; {} write(s) will be retried", pending.size(), e);
+        }
+    }
+
+    // Caller holds flushLock. Clears the batch once written (or put back).
+    private void writeBatch(List<Map.Entry<Long, Pending<T>>> batch, boolean delete) {
+        for (Map.Entry<Long, Pending<T>> write : batch) {
+            // visible in flushing before it leaves pending, so reads never fall through to a stale row
+            flushing.put(write.getKey(), write.getValue());
+            pending.remove(write.getKey(), write.getValue());
+        }
+        try {
+            if (delete) {
+                List<Long> ids = new ArrayList<>(batch.size());
+                for (Map.Entry<Long, Pending<T>> write : batch) ids.add(write.getKey());
+                delegate.deleteAll(ids);
+            } else {
+                List<T> entities = new ArrayList<>(batch.size());
+                for (Map.Entry<Long, Pending<T>> write : batch) entities.add(write.getValue().entity());
+                delegate.saveAll(entities);
+            }
+            flushedWrites.add(batch.size());
+        } catch (RuntimeException e) {
+            for (Map.Entry<Long, Pending<T>> write : batch) {
+                pending.putIfAbsent(write.getKey(), write.getValue());
+            }
+            throw e;
+        } finally {
+            for (Map.Entry<Long, Pending<T>> write : batch) {
+                flushing.remove(write.getKey(), write.getValue());
+            }
+            batch.clear();
+        }
+    }
+
+    private static Long id(BaseEntity entity) {
+        if (entity == null || entity.getId() == null) {
+            throw new IllegalArgumentException("Entity id is required for write-behind persistence");
+        }
+        return entity.getId();
+    }
+
+    // Compared by identity, so a flush only clears the exact write it took. entity is null for a delete.
+    private static final class Pending<T> {
+        private final T entity;
+
+        private Pending(T entity) {
+            this.entity = entity;
+        }
+
+        private T entity() {
+            return entity;
+        }
+    }
+}
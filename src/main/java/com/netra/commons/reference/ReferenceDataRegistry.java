@@ -0,0 +1,185 @@
+package com.netra.commons.reference;
+
+import com.netra.commons.contracts.Domain;
+import com.netra.commons.models.Currency;
+import com.netra.commons.models.TransactionType;
+import com.netra.commons.triage.TriageEvaluator;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Read-mostly lookups of currencies, domains and transaction types by code, plus the compiled
+ * {@link TriageEvaluator} of every transaction type.
+ *
+ * Loading (including compiling every triage rule) happens as one unit, off the request path via
+ * {@link #loadAsync(Executor)}, and is swapped in atomically. A lookup made before the first load
+ * completes waits for it, up to the lookup timeout, starting one if none is running, so callers
+ * never observe partial data.
+ */
+public class ReferenceDataRegistry {
+
+    public static final Duration DEFAULT_LOOKUP_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ReferenceDataSource source;
+    private final long lookupTimeoutNanos;
+    private volatile Snapshot snapshot;
+    private CompletableFuture<Snapshot> loading;
+
+    public ReferenceDataRegistry(ReferenceDataSource source) {
+        this(source, DEFAULT_LOOKUP_TIMEOUT);
+    }
+
+    /**
+     * {@code lookupTimeout} bounds how long a lookup waits for a load already running elsewhere;
+     * past it the lookup throws {@link IllegalStateException}.
+     */
+    public ReferenceDataRegistry(ReferenceDataSource source, Duration lookupTimeout) {
+        if (lookupTimeout == null || lookupTimeout.isNegative() || lookupTimeout.isZero()) {
+            throw new IllegalArgumentException("Lookup timeout must be positive");
+        }
+        this.source = source;
+        this.lookupTimeoutNanos = lookupTimeout.toNanos();
+    }
+
+    /**
+     * Loads on the calling thread and returns once the new data is visible.
+     */
+    public void load() {
+        loadAsync(Runnable::run).join();
+    }
+
+    /**
+     * Starts a load on {@code executor} unless one is already running, in which case that one is returned.
+     */
+    public CompletableFuture<Void> loadAsync(Executor executor) {
+        CompletableFuture<Snapshot> load;
+        synchronized (this) {
+            if (loading != null && !loading.isDone()) return loading.thenAccept(loaded -> { });
+            load = loading = new CompletableFuture<>();
+        }
+        start(load, executor);
+        return load.thenAccept(loaded -> { });
+    }
+
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * Waits for the first load; false if it did not finish within {@code timeout}.
+     */
+    public boolean awaitLoaded(Duration timeout) throws InterruptedException {
+        if (snapshot != null) return true;
+        try {
+            current(timeout.toNanos());
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    public Currency currency(String code) {
+        return snapshot().currencies.get(code);
+    }
+
+    public Domain domain(String domainCode) {
+        return snapshot().domains.get(domainCode);
+    }
+
+    public TransactionType transactionType(String code) {
+        return snapshot().transactionTypes.get(code);
+    }
+
+    /**
+     * The evaluator compiled at load time for the transaction type with this code, or null if unknown.
+     */
+    public TriageEvaluator triageEvaluator(String transactionTypeCode) {
+        return snapshot().evaluators.get(transactionTypeCode);
+    }
+
+    public TriageEvaluator triageEvaluator(TransactionType transactionType) {
+        return transactionType == null ? null : triageEvaluator(transactionType.getCode());
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) return current;
+        try {
+            return current(lookupTimeoutNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for reference data", e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Reference data not loaded within " + Duration.ofNanos(lookupTimeoutNanos), e);
+        }
+    }
+
+    private Snapshot current(long timeoutNanos) throws InterruptedException, TimeoutException {
+        CompletableFuture<Snapshot> pending;
+        boolean claimed = false;
+        synchronized (this) {
+            // no load yet, or the first one failed: claim it here and run it on this thread
+            if (loading == null || loading.isCompletedExceptionally()) {
+                loading = new CompletableFuture<>();
+                claimed = true;
+            }
+            pending = loading;
+        }
+        // outside the monitor, so concurrent lookups wait on the future with their timeout
+        if (claimed) start(pending, Runnable::run);
+        try {
+            return pending.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Reference data failed to load: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void start(CompletableFuture<Snapshot> load, Executor executor) {
+        try {
+            executor.execute(() -> {
+                try {
+                    Snapshot loaded = new Snapshot(source);
+                    snapshot = loaded;
+                    load.complete(loaded);
+                } catch (Throwable e) {
+                    load.completeExceptionally(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static final class Snapshot {
+        private final Map<String, Currency> currencies = new HashMap<>();
+        private final Map<String, Domain> domains = new HashMap<>();
+        private final Map<String, TransactionType> transactionTypes = new HashMap<>();
+        private final Map<String, TriageEvaluator> evaluators = new HashMap<>();
+
+        private Snapshot(ReferenceDataSource source) {
+            for (Currency currency : nullToEmpty(source.currencies())) {
+                currencies.put(currency.getCode(), currency);
+            }
+            for (Domain domain : nullToEmpty(source.domains())) {
+                domains.put(domain.getDomainCode(), domain);
+            }
+            for (TransactionType type : nullToEmpty(source.transactionTypes())) {
+                transactionTypes.put(type.getCode(), type);
+                evaluators.put(type.getCode(), TriageEvaluator.forTransactionType(type));
+            }
+        }
+
+        private static <T> List<T> nullToEmpty(List<T> values) {
+            return values == null ? List.of() : values;
+        }
+    }
+}
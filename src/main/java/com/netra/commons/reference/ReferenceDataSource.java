@@ -0,0 +1,20 @@
+package com.netra.commons.reference;
+
+import com.netra.commons.contracts.Domain;
+import com.netra.commons.models.Currency;
+import com.netra.commons.models.TransactionType;
+
+import java.util.List;
+
+/**
+ * Where {@link ReferenceDataRegistry} reads reference data from, typically the service's own
+ * repositories or a configuration service. Called off the request path.
+ */
+public interface ReferenceDataSource {
+
+    List<Currency> currencies();
+
+    List<Domain> domains();
+
+    List<TransactionType> transactionTypes();
+}
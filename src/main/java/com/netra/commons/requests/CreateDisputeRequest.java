@@ -1,5 +1,6 @@
 package com.netra.commons.requests;
 
+import com.netra.commons.annotations.ValidDisputeRequest;
 import com.netra.commons.contracts.Disputant;
 import com.netra.commons.enums.DisputeMode;
 import com.netra.commons.enums.DisputeAmountType;
@@ -13,6 +14,7 @@ import java.math.BigDecimal;
 import java.util.List;
 
 @Data
+@ValidDisputeRequest
 public class CreateDisputeRequest {
 
     private Disputant initiator; // Who is initiating the dispute
@@ -1,4 +1,31 @@
 package com.netra.commons.requests;
 
+import com.netra.commons.enums.DisputeAmountType;
+import com.netra.commons.enums.DisputeMode;
+import com.netra.commons.models.AccountDetail;
+import com.netra.commons.models.Evidence;
+import com.netra.commons.models.TransactionParticipant;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Field-level delta against an existing dispute; null (or empty) fields are left unchanged.
+ */
+@Data
 public class UpdateDisputeRequest {
+
+    private String disputeKey; // The dispute being updated
+
+    private List<Evidence> addedEvidences;
+    private List<String> removedEvidenceUuids;
+    private List<TransactionParticipant> addedParticipants;
+
+    private DisputeAmountType disputeAmountType;
+    private BigDecimal disputedAmount;
+    private DisputeMode mode;
+    private String note;
+    private AccountDetail accountDetail;
+
 }
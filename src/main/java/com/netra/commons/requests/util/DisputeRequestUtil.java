@@ -1,30 +1,52 @@
 package com.netra.commons.requests.util;
 
+import com.netra.commons.enums.DisputeField;
 import com.netra.commons.enums.TransactionParticipationRole;
+import com.netra.commons.instrumentation.Instrumentation;
+import com.netra.commons.instrumentation.LibraryMetrics;
+import com.netra.commons.models.Evidence;
 import com.netra.commons.models.Transaction;
 import com.netra.commons.models.TransactionParticipant;
 import com.netra.commons.requests.CreateDisputeRequest;
+import com.netra.commons.requests.UpdateDisputeRequest;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 public class DisputeRequestUtil {
     public static String generateDisputeKey(CreateDisputeRequest request) {
+        LibraryMetrics metrics = Instrumentation.metrics();
+        if (metrics == LibraryMetrics.NOOP) {
+            return buildDisputeKey(request);
+        }
+
+        long start = System.nanoTime();
+        String key = buildDisputeKey(request);
+        metrics.disputeKeyGenerated(System.nanoTime() - start);
+        return key;
+    }
+
+    private static String buildDisputeKey(CreateDisputeRequest request) {
         Transaction tx = request.getTransaction();
         List<TransactionParticipant> participants = request.getParticipants();
 
         String issuer = participants.stream()
-                .filter(p -> p.getTransactionParticipationRole().equals(TransactionParticipationRole.ISSUER))
+                .filter(p -> p.getTransactionParticipationRole() == TransactionParticipationRole.ISSUER)
                 .map(p -> p.getParticipant().getCode())
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("Issuer must be provided"));
 
         String canonical = String.join("|",
                 tx.getTransactionRef(),
-                tx.getTransactionDate().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME),
+                tx.getTransactionDate().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
                 String.valueOf(tx.getAmount()),
                 tx.getTransactionRailDTO().getInstrument().name(),
                 tx.getTransactionRailDTO().getChannel().name(),
@@ -35,6 +57,63 @@ public class DisputeRequestUtil {
         return sha256(canonical);
     }
 
+    /**
+     * Applies {@code update} to {@code request} in place and returns the fields that actually changed;
+     * values equal to the current ones (amounts by {@code compareTo}) are not reported.
+     */
+    public static Set<DisputeField> applyUpdate(CreateDisputeRequest request, UpdateDisputeRequest update) {
+        Set<DisputeField> changed = EnumSet.noneOf(DisputeField.class);
+
+        if (update.getRemovedEvidenceUuids() != null && !update.getRemovedEvidenceUuids().isEmpty()
+                && request.getEvidences() != null) {
+            Set<String> removed = new HashSet<>(update.getRemovedEvidenceUuids());
+            List<Evidence> evidences = mutable(request.getEvidences());
+            if (evidences.removeIf(e -> removed.contains(e.getUuid()))) changed.add(DisputeField.EVIDENCES);
+            request.setEvidences(evidences);
+        }
+        if (update.getAddedEvidences() != null && !update.getAddedEvidences().isEmpty()) {
+            List<Evidence> evidences = mutable(request.getEvidences());
+            evidences.addAll(update.getAddedEvidences());
+            request.setEvidences(evidences);
+            changed.add(DisputeField.EVIDENCES);
+        }
+        if (update.getAddedParticipants() != null && !update.getAddedParticipants().isEmpty()) {
+            List<TransactionParticipant> participants = mutable(request.getParticipants());
+            participants.addAll(update.getAddedParticipants());
+            request.setParticipants(participants);
+            changed.add(DisputeField.PARTICIPANTS);
+        }
+
+        if (update.getDisputeAmountType() != null && update.getDisputeAmountType() != request.getDisputeAmountType()) {
+            request.setDisputeAmountType(update.getDisputeAmountType());
+            changed.add(DisputeField.DISPUTE_AMOUNT_TYPE);
+        }
+        if (update.getDisputedAmount() != null && (request.getDisputedAmount() == null
+                || update.getDisputedAmount().compareTo(request.getDisputedAmount()) != 0)) {
+            request.setDisputedAmount(update.getDisputedAmount());
+            changed.add(DisputeField.DISPUTED_AMOUNT);
+        }
+        if (update.getMode() != null && update.getMode() != request.getMode()) {
+            request.setMode(update.getMode());
+            changed.add(DisputeField.MODE);
+        }
+        if (update.getNote() != null && !update.getNote().equals(request.getNote())) {
+            request.setNote(update.getNote());
+            changed.add(DisputeField.NOTE);
+        }
+        if (update.getAccountDetail() != null && !Objects.equals(update.getAccountDetail(), request.getAccountDetail())) {
+            request.setAccountDetail(update.getAccountDetail());
+            changed.add(DisputeField.ACCOUNT_DETAIL);
+        }
+        return changed;
+    }
+
+    // Appends in place where possible so an update does not copy the whole list.
+    private static <T> List<T> mutable(List<T> list) {
+        if (list instanceof ArrayList<T>) return list;
+        return list == null ? new ArrayList<>() : new ArrayList<>(list);
+    }
+
     private static String sha256(String input) {
         try {
             MessageDigest md = MessageDigest.getInstance("SHA-256");
@@ -0,0 +1,54 @@
+package com.netra.commons.revision;
+
+import com.netra.commons.enums.DisputeField;
+import com.netra.commons.models.TriageDecisionRule;
+import com.netra.commons.validators.DisputeRequestRule;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public class DisputeRevision {
+
+    private final Set<DisputeField> changedFields;
+    private final List<DisputeRequestRule> violations;
+    private final TriageDecisionRule triageRule;
+    private final int validationRulesChecked;
+    private final int triageRulesEvaluated;
+
+    public DisputeRevision(Set<DisputeField> changedFields, List<DisputeRequestRule> violations, TriageDecisionRule triageRule,
+                           int validationRulesChecked, int triageRulesEvaluated) {
+        this.changedFields = changedFields;
+        this.violations = violations;
+        this.triageRule = triageRule;
+        this.validationRulesChecked = validationRulesChecked;
+        this.triageRulesEvaluated = triageRulesEvaluated;
+    }
+
+    public Set<DisputeField> getChangedFields() {
+        return changedFields;
+    }
+
+    /**
+     * Every rule the updated dispute violates, not only those re-checked for this update.
+     */
+    public List<DisputeRequestRule> getViolations() {
+        return violations;
+    }
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+
+    public Optional<TriageDecisionRule> getTriageRule() {
+        return Optional.ofNullable(triageRule);
+    }
+
+    public int getValidationRulesChecked() {
+        return validationRulesChecked;
+    }
+
+    public int getTriageRulesEvaluated() {
+        return triageRulesEvaluated;
+    }
+}
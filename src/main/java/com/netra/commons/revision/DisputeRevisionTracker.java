@@ -0,0 +1,102 @@
+package com.netra.commons.revision;
+
+import com.netra.commons.enums.DisputeField;
+import com.netra.commons.instrumentation.Instrumentation;
+import com.netra.commons.instrumentation.LibraryMetrics;
+import com.netra.commons.models.TriageDecisionRule;
+import com.netra.commons.requests.CreateDisputeRequest;
+import com.netra.commons.requests.UpdateDisputeRequest;
+import com.netra.commons.requests.util.DisputeRequestUtil;
+import com.netra.commons.triage.TriageEvaluator;
+import com.netra.commons.triage.TriageSession;
+import com.netra.commons.validators.DisputeRequestRule;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps a dispute's validation and triage outcome current as {@link UpdateDisputeRequest}s are
+ * applied. Only the {@link DisputeRequestRule}s and triage rules that read a changed
+ * {@link DisputeField} are re-run, so an update costs in proportion to what it touches rather than
+ * to the number of evidences, participants or rules.
+ *
+ * Not thread-safe; updates to one dispute must be applied one at a time.
+ */
+public class DisputeRevisionTracker {
+
+    private final CreateDisputeRequest request;
+    private final TriageSession triage;
+    private final Set<DisputeRequestRule> violated = EnumSet.noneOf(DisputeRequestRule.class);
+
+    /**
+     * Fully validates and triages {@code request}; {@code evaluator} may be null to skip triage.
+     */
+    public DisputeRevisionTracker(CreateDisputeRequest request, TriageEvaluator evaluator) {
+        this.request = request;
+        this.triage = evaluator == null ? null : evaluator.session(request);
+        check(EnumSet.allOf(DisputeRequestRule.class), false);
+        if (triage != null) triage.current();
+    }
+
+    public CreateDisputeRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * Applies {@code update} to the tracked request and re-checks what it affected.
+     */
+    public DisputeRevision apply(UpdateDisputeRequest update) {
+        Set<DisputeField> changed = DisputeRequestUtil.applyUpdate(request, update);
+
+        Set<DisputeRequestRule> affected = EnumSet.noneOf(DisputeRequestRule.class);
+        for (DisputeRequestRule rule : DisputeRequestRule.values()) {
+            if (rule.dependsOn(changed)) affected.add(rule);
+        }
+        check(affected, true);
+
+        TriageDecisionRule triageRule = null;
+        int triageEvaluations = 0;
+        if (triage != null) {
+            triage.invalidate(changed);
+            triageRule = triage.current().orElse(null);
+            triageEvaluations = triage.lastEvaluations();
+        }
+        return new DisputeRevision(changed, violations(), triageRule, affected.size(), triageEvaluations);
+    }
+
+    /**
+     * Current violations in the order {@code DisputeRequestValidator} reports them.
+     */
+    public List<DisputeRequestRule> violations() {
+        List<DisputeRequestRule> violations = new ArrayList<>(violated.size());
+        for (DisputeRequestRule rule : violated) {
+            violations.add(rule);
+            if (rule == DisputeRequestRule.INITIATOR_REQUIRED) break;
+        }
+        return violations;
+    }
+
+    // A partial re-check reports as revalidation, so it does not dilute full-validation latency.
+    private void check(Set<DisputeRequestRule> rules, boolean partial) {
+        if (rules.isEmpty()) return;
+        LibraryMetrics metrics = Instrumentation.metrics();
+        long start = metrics == LibraryMetrics.NOOP ? 0 : System.nanoTime();
+        for (DisputeRequestRule rule : rules) {
+            if (rule.isViolatedBy(request)) {
+                violated.add(rule);
+                metrics.validationRuleFailed(rule.getRuleName());
+            } else {
+                violated.remove(rule);
+            }
+        }
+        if (metrics == LibraryMetrics.NOOP) return;
+        long nanos = System.nanoTime() - start;
+        if (partial) {
+            metrics.revalidationCompleted(nanos, rules.size(), violated.isEmpty());
+        } else {
+            metrics.validationCompleted(nanos, violated.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.netra.commons.scheduling;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface DeadlineListener {
+
+    /**
+     * Receives deadlines that fell due, in batches. Called outside the scheduler lock, so it may
+     * schedule or cancel other deadlines. A deadline is delivered once, unless the call for its
+     * batch throws: then the whole batch is redelivered on the next tick, so handle them idempotently.
+     */
+    void onDeadlines(List<DisputeDeadline> due);
+}
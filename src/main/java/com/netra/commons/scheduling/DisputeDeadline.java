@@ -0,0 +1,43 @@
+package com.netra.commons.scheduling;
+
+import com.netra.commons.enums.DisputeState;
+
+import java.time.Instant;
+
+/**
+ * A pending SLA deadline: once {@code deadlineMillis} passes the dispute should move to {@code action},
+ * typically {@link DisputeState#EXPIRE} or {@link DisputeState#ESCALATED}.
+ */
+public class DisputeDeadline {
+
+    private final String disputeKey;
+    private final DisputeState action;
+    private final long deadlineMillis;
+
+    DisputeDeadline(String disputeKey, DisputeState action, long deadlineMillis) {
+        this.disputeKey = disputeKey;
+        this.action = action;
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    public String getDisputeKey() {
+        return disputeKey;
+    }
+
+    public DisputeState getAction() {
+        return action;
+    }
+
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    public Instant getDeadline() {
+        return Instant.ofEpochMilli(deadlineMillis);
+    }
+
+    @Override
+    public String toString() {
+        return "DisputeDeadline[" + disputeKey + " " + action + " @" + getDeadline() + "]";
+    }
+}
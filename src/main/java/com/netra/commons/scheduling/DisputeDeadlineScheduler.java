@@ -0,0 +1,421 @@
+package com.netra.commons.scheduling;
+
+import com.netra.commons.enums.DisputeState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process SLA deadline scheduler built on a hierarchical timing wheel.
+ *
+ * Four levels of 256 slots cover 2^32 ticks; deadlines further out park in the top level and are
+ * re-placed when it cascades. Each deadline is an intrusive list node, so schedule and cancel are
+ * O(1) and advancing one tick only touches the slot that is due (plus an occasional cascade),
+ * independent of how many disputes are open. Deadlines fire at most one tick late and never early.
+ *
+ * State can be written to a compact binary checkpoint and restored on restart.
+ */
+public class DisputeDeadlineScheduler implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(DisputeDeadlineScheduler.class);
+
+    private static final int SLOT_BITS = 8;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    // sentinel slot after the wheel holding deadlines already due, so they unlink in O(1) too
+    private static final int OVERDUE = LEVELS * SLOTS;
+
+    private static final int CHECKPOINT_MAGIC = 0x4E445753; // "NDWS"
+    private static final int CHECKPOINT_VERSION = 2;
+
+    private final DeadlineListener listener;
+    private final long tickMillis;
+    private final int maxBatchSize;
+    private final Clock clock;
+
+    private final Node[] slots = new Node[LEVELS * SLOTS + 1];
+    private final Map<String, Node> byDisputeKey = new HashMap<>();
+    // deadlines handed to the listener and not yet settled, chained like byDisputeKey
+    private final Map<String, Node> inFlight = new HashMap<>();
+    private long currentTick;
+    private int size;
+    private int overdueCount;
+
+    private ScheduledExecutorService ticker;
+
+    public DisputeDeadlineScheduler(DeadlineListener listener) {
+        this(listener, Duration.ofSeconds(1), 1024, Clock.systemUTC());
+    }
+
+    public DisputeDeadlineScheduler(DeadlineListener listener, Duration tick, int maxBatchSize, Clock clock) {
+        if (tick.toMillis() <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Tick and batch size must be positive");
+        }
+        this.listener = listener;
+        this.tickMillis = tick.toMillis();
+        this.maxBatchSize = maxBatchSize;
+        this.clock = clock;
+        this.currentTick = Math.floorDiv(clock.millis(), tickMillis);
+    }
+
+    /**
+     * Schedules {@code action} for the dispute at {@code deadline}, replacing any pending deadline
+     * for the same dispute and action.
+     */
+    public synchronized void schedule(String disputeKey, DisputeState action, Instant deadline) {
+        if (disputeKey == null || action == null || deadline == null) {
+            throw new IllegalArgumentException("Dispute key, action and deadline are required");
+        }
+        cancel(disputeKey, action);
+
+        Node node = new Node(disputeKey, action, deadline.toEpochMilli());
+        Node head = byDisputeKey.put(disputeKey, node);
+        node.nextForKey = head;
+        size++;
+        place(node);
+    }
+
+    public synchronized boolean cancel(String disputeKey, DisputeState action) {
+        Node previous = null;
+        for (Node node = byDisputeKey.get(disputeKey); node != null; node = node.nextForKey) {
+            if (node.getAction() == action) {
+                if (previous == null) {
+                    replaceHead(byDisputeKey, disputeKey, node.nextForKey);
+                } else {
+                    previous.nextForKey = node.nextForKey;
+                }
+                unlink(node);
+                size--;
+                return true;
+            }
+            previous = node;
+        }
+        for (Node node = inFlight.get(disputeKey); node != null; node = node.nextForKey) {
+            if (node.getAction() == action) node.cancelled = true;
+        }
+        return false;
+    }
+
+    /**
+     * Cancels every pending deadline of the dispute, e.g. once it is ACCEPTed or CLOSED.
+     */
+    public synchronized int cancelAll(String disputeKey) {
+        int cancelled = 0;
+        for (Node node = byDisputeKey.remove(disputeKey); node != null; node = node.nextForKey) {
+            unlink(node);
+            cancelled++;
+        }
+        for (Node node = inFlight.get(disputeKey); node != null; node = node.nextForKey) {
+            node.cancelled = true;
+        }
+        size -= cancelled;
+        return cancelled;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Advances the wheel to the clock's current time and delivers everything that fell due.
+     * Returns the number of deadlines delivered.
+     *
+     * Every batch is offered to the listener even if an earlier one throws. The deadlines of a
+     * failed batch go back into the wheel, unless the same dispute and action was cancelled or
+     * scheduled again meanwhile, and are redelivered on the next advance; the first failure is
+     * rethrown once all batches were offered. Deadlines cancelled before their batch is offered are
+     * left out of it.
+     */
+    public int advance() {
+        List<Node> due;
+        synchronized (this) {
+            due = collectDue(Math.floorDiv(clock.millis(), tickMillis));
+        }
+        int delivered = 0;
+        RuntimeException failure = null;
+        for (int from = 0; from < due.size(); from += maxBatchSize) {
+            List<Node> batch = due.subList(from, Math.min(due.size(), from + maxBatchSize));
+            boolean failed = false;
+            try {
+                List<DisputeDeadline> live = live(batch);
+                if (!live.isEmpty()) listener.onDeadlines(live);
+                delivered += live.size();
+            } catch (RuntimeException e) {
+                failed = true;
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            } finally {
+                settle(batch, failed);
+            }
+        }
+        if (failure != null) throw failure;
+        return delivered;
+    }
+
+    public synchronized void start() {
+        if (ticker != null) return;
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "netra-deadline-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> {
+            try {
+                advance();
+            } catch (RuntimeException e) {
+                // keep ticking; failed batches were put back and are retried next tick
+                log.error("Deadline listener failed", e);
+            }
+        }, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (ticker != null) {
+            ticker.shutdown();
+            ticker = null;
+        }
+    }
+
+    /**
+     * Writes all pending deadlines to {@code file}, replacing it atomically.
+     */
+    public void checkpoint(Path file) throws IOException {
+        // deadlines are immutable, so a copy of the references is a consistent snapshot
+        DisputeDeadline[] snapshot;
+        synchronized (this) {
+            snapshot = new DisputeDeadline[size];
+            int i = 0;
+            for (Node head : byDisputeKey.values()) {
+                for (Node node = head; node != null; node = node.nextForKey) {
+                    snapshot[i++] = node;
+                }
+            }
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeByte(CHECKPOINT_VERSION);
+            out.writeInt(snapshot.length);
+            for (DisputeDeadline deadline : snapshot) {
+                out.writeUTF(deadline.getDisputeKey());
+                out.writeUTF(deadline.getAction().name());
+                out.writeLong(deadline.getDeadlineMillis());
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Loads deadlines from a checkpoint written by {@link #checkpoint(Path)}. Deadlines that passed
+     * while the process was down fire on the next {@link #advance()}. Returns the number restored.
+     */
+    public int restore(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            int version = in.readInt() == CHECKPOINT_MAGIC ? in.readByte() : -1;
+            if (version != CHECKPOINT_VERSION) {
+                throw new IOException("Not a deadline checkpoint: " + file);
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String disputeKey = in.readUTF();
+                DisputeState action = action(in.readUTF(), file);
+                long deadlineMillis = in.readLong();
+                schedule(disputeKey, action, Instant.ofEpochMilli(deadlineMillis));
+            }
+            return count;
+        }
+    }
+
+    private static DisputeState action(String name, Path file) throws IOException {
+        try {
+            return DisputeState.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown dispute state " + name + " in checkpoint " + file, e);
+        }
+    }
+
+    private synchronized List<DisputeDeadline> live(List<Node> batch) {
+        List<DisputeDeadline> live = new ArrayList<>(batch.size());
+        for (Node node : batch) {
+            if (!node.cancelled) live.add(node);
+        }
+        return live;
+    }
+
+    // Drops a delivered batch from the in-flight index. Deadlines of a failed delivery go back as
+    // overdue, unless they were cancelled, or the same dispute and action scheduled again, while
+    // the listener ran.
+    private synchronized void settle(List<Node> batch, boolean failed) {
+        for (Node node : batch) {
+            removeFromKeyIndex(inFlight, node);
+            if (!failed || node.cancelled || isPending(node.getDisputeKey(), node.getAction())) continue;
+            node.nextForKey = byDisputeKey.put(node.getDisputeKey(), node);
+            size++;
+            place(node);
+        }
+    }
+
+    private boolean isPending(String disputeKey, DisputeState action) {
+        for (Node node = byDisputeKey.get(disputeKey); node != null; node = node.nextForKey) {
+            if (node.getAction() == action) return true;
+        }
+        return false;
+    }
+
+    private List<Node> collectDue(long targetTick) {
+        List<Node> due = new ArrayList<>();
+
+        while (currentTick < targetTick) {
+            if (size == due.size() + overdueCount) {
+                // nothing left in the wheel, skip straight to the target
+                currentTick = targetTick;
+                break;
+            }
+            currentTick++;
+            cascade();
+            int index = (int) (currentTick & SLOT_MASK);
+            Node node = slots[index];
+            slots[index] = null;
+            while (node != null) {
+                Node next = node.next;
+                node.prev = node.next = null;
+                node.slot = -1;
+                due.add(node);
+                node = next;
+            }
+        }
+        // scheduled in the past, or landed on the current tick during a cascade
+        Node node = slots[OVERDUE];
+        slots[OVERDUE] = null;
+        overdueCount = 0;
+        while (node != null) {
+            Node next = node.next;
+            node.prev = node.next = null;
+            node.slot = -1;
+            due.add(node);
+            node = next;
+        }
+
+        for (Node fired : due) {
+            removeFromKeyIndex(byDisputeKey, fired);
+            fired.nextForKey = inFlight.put(fired.getDisputeKey(), fired);
+        }
+        size -= due.size();
+        return due;
+    }
+
+    // When a lower level wraps, pull the matching slot of the next level down and re-place its nodes.
+    private void cascade() {
+        for (int level = 1; level < LEVELS; level++) {
+            if (((currentTick >>> (SLOT_BITS * (level - 1))) & SLOT_MASK) != 0) return;
+
+            int index = level * SLOTS + (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+            Node node = slots[index];
+            slots[index] = null;
+            while (node != null) {
+                Node next = node.next;
+                node.prev = node.next = null;
+                place(node);
+                node = next;
+            }
+        }
+    }
+
+    private void place(Node node) {
+        // round up so a deadline never fires early
+        long tick = Math.floorDiv(node.getDeadlineMillis() + tickMillis - 1, tickMillis);
+        int index = tick <= currentTick ? OVERDUE : wheelSlot(tick);
+        if (index == OVERDUE) overdueCount++;
+
+        node.slot = index;
+        Node head = slots[index];
+        node.next = head;
+        if (head != null) head.prev = node;
+        slots[index] = node;
+    }
+
+    private int wheelSlot(long tick) {
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * level;
+            if ((tick >>> shift) - (currentTick >>> shift) < SLOTS) {
+                return level * SLOTS + (int) ((tick >>> shift) & SLOT_MASK);
+            }
+        }
+        // beyond the wheel's horizon: park in the top slot that cascades last
+        int shift = SLOT_BITS * (LEVELS - 1);
+        return (LEVELS - 1) * SLOTS + (int) (((currentTick >>> shift) + SLOT_MASK) & SLOT_MASK);
+    }
+
+    private void unlink(Node node) {
+        if (node.slot == OVERDUE) overdueCount--;
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            slots[node.slot] = node.next;
+        }
+        if (node.next != null) node.next.prev = node.prev;
+        node.prev = node.next = null;
+        node.slot = -1;
+    }
+
+    private static void removeFromKeyIndex(Map<String, Node> index, Node fired) {
+        Node previous = null;
+        for (Node node = index.get(fired.getDisputeKey()); node != null; node = node.nextForKey) {
+            if (node == fired) {
+                if (previous == null) {
+                    replaceHead(index, fired.getDisputeKey(), node.nextForKey);
+                } else {
+                    previous.nextForKey = node.nextForKey;
+                }
+                return;
+            }
+            previous = node;
+        }
+    }
+
+    private static void replaceHead(Map<String, Node> index, String disputeKey, Node next) {
+        if (next == null) {
+            index.remove(disputeKey);
+        } else {
+            index.put(disputeKey, next);
+        }
+    }
+
+    private static final class Node extends DisputeDeadline {
+        private Node prev;
+        private Node next;
+        // other deadlines of the same dispute, at most one per DisputeState
+        private Node nextForKey;
+        private int slot = -1;
+        // cancelled while handed to the listener: never put back
+        private boolean cancelled;
+
+        private Node(String disputeKey, DisputeState action, long deadlineMillis) {
+            super(disputeKey, action, deadlineMillis);
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package com.netra.commons.search;
+
+import com.netra.commons.models.AccountDetail;
+import com.netra.commons.models.CustomerUser;
+import com.netra.commons.models.Transaction;
+import com.netra.commons.models.TransactionParticipant;
+import com.netra.commons.requests.CreateDisputeRequest;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory inverted index from {@link SearchField} terms to dispute keys, supporting exact and
+ * prefix lookups without scanning disputes.
+ *
+ * Each field is a sorted map from normalised term to a roaring-bitmap posting list of internal
+ * document ids. Posting lists are copy-on-write: writers (serialised on this index) publish a new
+ * bitmap for every term they touch, so readers never lock and never see a partially updated list.
+ *
+ * Each document's terms are kept as a sorted {@code int[]} of ids into a reference-counted term
+ * dictionary. A removed document's id is reused once no lookup that might still hold a posting list
+ * from before the removal is running; {@link #save(Path)} additionally compacts ids.
+ */
+public class DisputeSearchIndex {
+
+    private static final int SEGMENT_MAGIC = 0x4E445349; // "NDSI"
+    private static final byte SEGMENT_VERSION = 1;
+    private static final SearchField[] FIELDS = SearchField.values();
+
+    private static final int[] NO_TERMS = new int[0];
+
+    private final List<ConcurrentSkipListMap<String, RoaringBitmap>> postings = new ArrayList<>(FIELDS.length);
+    // docId -> dispute key, null once removed; replaced (never shrunk) when it grows
+    private volatile String[] keys = new String[1024];
+    // lookups in progress; a freed doc id is only reused after this has been seen at zero
+    private final AtomicInteger readers = new AtomicInteger();
+
+    // writer-side bookkeeping, guarded by this
+    private final Map<String, Integer> docIds = new HashMap<>();
+    private int[][] docTerms = new int[1024][];
+    private int nextDocId;
+    private final IntStack freeDocIds = new IntStack();
+    private final IntStack pendingDocIds = new IntStack();
+
+    // term dictionary: termId -> term and the number of documents holding it
+    private final Map<Term, Integer> termIds = new HashMap<>();
+    private Term[] terms = new Term[1024];
+    private int[] termRefs = new int[1024];
+    private int nextTermId;
+    private final IntStack freeTermIds = new IntStack();
+
+    public DisputeSearchIndex() {
+        for (int i = 0; i < FIELDS.length; i++) {
+            postings.add(new ConcurrentSkipListMap<>());
+        }
+    }
+
+    /**
+     * Indexes, or re-indexes, the dispute's searchable fields. Only terms that changed since the
+     * previous call for the same key touch the posting lists.
+     */
+    public void index(String disputeKey, CreateDisputeRequest request) {
+        if (disputeKey == null) {
+            throw new IllegalArgumentException("Dispute key is required");
+        }
+        indexAll(Map.of(disputeKey, request));
+    }
+
+    /**
+     * As {@link #index}, publishing each touched posting list once for the whole batch; use for
+     * bulk loads, where per-dispute copy-on-write of popular terms would dominate.
+     */
+    public synchronized void indexAll(Map<String, CreateDisputeRequest> requests) {
+        Map<Term, RoaringBitmap> added = new HashMap<>();
+        Map<Term, RoaringBitmap> removed = new HashMap<>();
+        for (Map.Entry<String, CreateDisputeRequest> entry : requests.entrySet()) {
+            if (entry.getKey() == null) {
+                throw new IllegalArgumentException("Dispute key is required");
+            }
+            int[] current = termIds(terms(entry.getValue()));
+            Integer existing = docIds.get(entry.getKey());
+            int docId = existing == null ? allocate(entry.getKey()) : existing;
+            int[] previous = existing == null ? NO_TERMS : docTerms[docId];
+
+            // both sorted: walk them together to find the terms that left and the ones that arrived
+            int p = 0;
+            int c = 0;
+            while (p < previous.length || c < current.length) {
+                if (c == current.length || (p < previous.length && previous[p] < current[c])) {
+                    removed.computeIfAbsent(terms[previous[p]], t -> new RoaringBitmap()).add(docId);
+                    release(previous[p++]);
+                } else if (p == previous.length || current[c] < previous[p]) {
+                    added.computeIfAbsent(terms[current[c]], t -> new RoaringBitmap()).add(docId);
+                    termRefs[current[c++]]++;
+                } else {
+                    p++;
+                    c++;
+                }
+            }
+            docTerms[docId] = current;
+        }
+        removed.forEach(this::unpost);
+        added.forEach(this::post);
+    }
+
+    public synchronized boolean remove(String disputeKey) {
+        Integer docId = docIds.remove(disputeKey);
+        if (docId == null) return false;
+        RoaringBitmap doc = RoaringBitmap.bitmapOf(docId);
+        for (int termId : docTerms[docId]) {
+            unpost(terms[termId], doc);
+            release(termId);
+        }
+        docTerms[docId] = null;
+        keys[docId] = null;
+        pendingDocIds.push(docId);
+        return true;
+    }
+
+    public synchronized int size() {
+        return docIds.size();
+    }
+
+    // Doc ids handed out so far, live or free; bounded by the peak live count plus in-flight removals.
+    synchronized int allocatedDocIds() {
+        return nextDocId;
+    }
+
+    /**
+     * Keys of disputes whose {@code field} equals {@code value} after normalisation.
+     */
+    public List<String> exact(SearchField field, String value) {
+        String term = field.normalise(value);
+        if (term == null) return List.of();
+        readers.incrementAndGet();
+        try {
+            RoaringBitmap posting = postings.get(field.ordinal()).get(term);
+            return posting == null ? List.of() : resolve(posting, Integer.MAX_VALUE);
+        } finally {
+            readers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Keys of up to {@code limit} disputes with a {@code field} term starting with {@code prefix},
+     * in term order.
+     */
+    public List<String> prefix(SearchField field, String prefix, int limit) {
+        String start = field.normalise(prefix);
+        if (start == null || limit <= 0) return List.of();
+        RoaringBitmap matched = new RoaringBitmap();
+        Set<String> result = new LinkedHashSet<>();
+        readers.incrementAndGet();
+        try {
+            for (Map.Entry<String, RoaringBitmap> entry : postings.get(field.ordinal()).tailMap(start).entrySet()) {
+                if (!entry.getKey().startsWith(start)) break;
+                RoaringBitmap fresh = RoaringBitmap.andNot(entry.getValue(), matched);
+                matched.or(fresh);
+                result.addAll(resolve(fresh, limit - result.size()));
+                if (result.size() >= limit) break;
+            }
+        } finally {
+            readers.decrementAndGet();
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * Writes a segment of the live documents, with ids compacted, for {@link #load(Path)}. Readers
+     * are not blocked; writers wait until the segment is written.
+     */
+    public synchronized void save(Path file) throws IOException {
+        int[] compacted = new int[nextDocId];
+        Arrays.fill(compacted, -1);
+        String[] liveKeys = keys;
+        int live = 0;
+        for (int docId = 0; docId < nextDocId; docId++) {
+            if (liveKeys[docId] != null) compacted[docId] = live++;
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            out.writeInt(SEGMENT_MAGIC);
+            out.writeByte(SEGMENT_VERSION);
+            out.writeInt(live);
+            for (int docId = 0; docId < nextDocId; docId++) {
+                if (liveKeys[docId] != null) out.writeUTF(liveKeys[docId]);
+            }
+            out.writeByte(FIELDS.length);
+            for (SearchField field : FIELDS) {
+                ConcurrentSkipListMap<String, RoaringBitmap> terms = postings.get(field.ordinal());
+                out.writeUTF(field.name());
+                out.writeInt(terms.size());
+                for (Map.Entry<String, RoaringBitmap> entry : terms.entrySet()) {
+                    RoaringBitmap posting = live == nextDocId ? entry.getValue().clone() : remap(entry.getValue(), compacted);
+                    posting.runOptimize();
+                    out.writeUTF(entry.getKey());
+                    posting.serialize(out);
+                }
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Loads a segment written by {@link #save(Path)}; the posting lists are used as stored, so
+     * loading costs one pass over the file rather than re-indexing every dispute.
+     */
+    public static DisputeSearchIndex load(Path file) throws IOException {
+        DisputeSearchIndex index = new DisputeSearchIndex();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != SEGMENT_MAGIC || in.readByte() != SEGMENT_VERSION) {
+                throw new IOException("Not a dispute search segment: " + file);
+            }
+            synchronized (index) {
+                int docCount = in.readInt();
+                int[] termCounts = new int[docCount];
+                for (int i = 0; i < docCount; i++) {
+                    index.allocate(in.readUTF());
+                    index.docTerms[i] = NO_TERMS;
+                }
+                int fieldCount = in.readByte();
+                for (int f = 0; f < fieldCount; f++) {
+                    SearchField field;
+                    try {
+                        field = SearchField.valueOf(in.readUTF());
+                    } catch (IllegalArgumentException e) {
+                        throw new IOException("Unknown search field in segment: " + file, e);
+                    }
+                    int termCount = in.readInt();
+                    ConcurrentSkipListMap<String, RoaringBitmap> terms = index.postings.get(field.ordinal());
+                    for (int t = 0; t < termCount; t++) {
+                        Term term = new Term(field, in.readUTF());
+                        RoaringBitmap posting = new RoaringBitmap();
+                        posting.deserialize(in);
+                        terms.put(term.value(), posting);
+                        int termId = index.termId(term);
+                        for (IntIterator ids = posting.getIntIterator(); ids.hasNext(); ) {
+                            int docId = ids.next();
+                            if (docId >= docCount) throw new IOException("Posting references a missing document: " + file);
+                            int[] docTerms = index.docTerms[docId];
+                            if (termCounts[docId] == docTerms.length) {
+                                docTerms = index.docTerms[docId] = Arrays.copyOf(docTerms, Math.max(4, docTerms.length * 2));
+                            }
+                            docTerms[termCounts[docId]++] = termId;
+                            index.termRefs[termId]++;
+                        }
+                    }
+                }
+                for (int docId = 0; docId < docCount; docId++) {
+                    int[] docTerms = Arrays.copyOf(index.docTerms[docId], termCounts[docId]);
+                    Arrays.sort(docTerms);
+                    index.docTerms[docId] = docTerms;
+                }
+            }
+        }
+        return index;
+    }
+
+    private int allocate(String disputeKey) {
+        // a lookup that started before a removal may still hold a posting list naming the freed id
+        if (!pendingDocIds.isEmpty() && readers.get() == 0) {
+            while (!pendingDocIds.isEmpty()) freeDocIds.push(pendingDocIds.pop());
+        }
+        int docId;
+        if (!freeDocIds.isEmpty()) {
+            docId = freeDocIds.pop();
+        } else {
+            docId = nextDocId++;
+            if (docId == keys.length) {
+                keys = Arrays.copyOf(keys, keys.length * 2);
+                docTerms = Arrays.copyOf(docTerms, docTerms.length * 2);
+            }
+        }
+        keys[docId] = disputeKey;
+        docIds.put(disputeKey, docId);
+        return docId;
+    }
+
+    // Sorted, distinct ids of the document's terms, adding unseen terms to the dictionary unreferenced.
+    private int[] termIds(Set<Term> docTerms) {
+        int[] ids = new int[docTerms.size()];
+        int i = 0;
+        for (Term term : docTerms) ids[i++] = termId(term);
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private int termId(Term term) {
+        Integer existing = termIds.get(term);
+        if (existing != null) return existing;
+        int termId;
+        if (!freeTermIds.isEmpty()) {
+            termId = freeTermIds.pop();
+        } else {
+            termId = nextTermId++;
+            if (termId == terms.length) {
+                terms = Arrays.copyOf(terms, terms.length * 2);
+                termRefs = Arrays.copyOf(termRefs, termRefs.length * 2);
+            }
+        }
+        terms[termId] = term;
+        termIds.put(term, termId);
+        return termId;
+    }
+
+    private void release(int termId) {
+        if (--termRefs[termId] > 0) return;
+        termIds.remove(terms[termId]);
+        terms[termId] = null;
+        freeTermIds.push(termId);
+    }
+
+    private void post(Term term, RoaringBitmap docIds) {
+        ConcurrentSkipListMap<String, RoaringBitmap> terms = postings.get(term.field().ordinal());
+        RoaringBitmap current = terms.get(term.value());
+        terms.put(term.value(), current == null ? docIds : RoaringBitmap.or(current, docIds));
+    }
+
+    private void unpost(Term term, RoaringBitmap docIds) {
+        ConcurrentSkipListMap<String, RoaringBitmap> terms = postings.get(term.field().ordinal());
+        RoaringBitmap current = terms.get(term.value());
+        if (current == null) return;
+        RoaringBitmap updated = RoaringBitmap.andNot(current, docIds);
+        if (updated.isEmpty()) {
+            terms.remove(term.value());
+        } else {
+            terms.put(term.value(), updated);
+        }
+    }
+
+    private List<String> resolve(RoaringBitmap posting, int limit) {
+        String[] snapshot = keys;
+        List<String> result = new ArrayList<>(Math.min(limit, posting.getCardinality()));
+        for (IntIterator ids = posting.getIntIterator(); ids.hasNext() && result.size() < limit; ) {
+            String key = snapshot[ids.next()];
+            if (key != null) result.add(key);
+        }
+        return result;
+    }
+
+    private static RoaringBitmap remap(RoaringBitmap posting, int[] compacted) {
+        RoaringBitmap remapped = new RoaringBitmap();
+        for (IntIterator ids = posting.getIntIterator(); ids.hasNext(); ) {
+            int docId = compacted[ids.next()];
+            if (docId >= 0) remapped.add(docId);
+        }
+        return remapped;
+    }
+
+    private static Set<Term> terms(CreateDisputeRequest request) {
+        Set<Term> terms = new LinkedHashSet<>();
+        Transaction transaction = request.getTransaction();
+        if (transaction != null) {
+            add(terms, SearchField.RRN, transaction.getRetrievalReferenceNumber());
+            add(terms, SearchField.STAN, transaction.getStan());
+            add(terms, SearchField.TRANSACTION_REF, transaction.getTransactionRef());
+        }
+        if (request.getInitiator() instanceof CustomerUser customer) {
+            add(terms, SearchField.PHONE, customer.getUserPhone());
+            add(terms, SearchField.EMAIL, customer.getUserEmail());
+        }
+        add(terms, request.getAccountDetail());
+        if (request.getParticipants() != null) {
+            for (TransactionParticipant participant : request.getParticipants()) {
+                add(terms, participant.getAccountDetail());
+            }
+        }
+        return terms;
+    }
+
+    private static void add(Set<Term> terms, AccountDetail account) {
+        if (account == null) return;
+        add(terms, SearchField.ACCOUNT_NUMBER, account.getAccountNumber());
+        add(terms, SearchField.PHONE, account.getRegisteredPhone());
+        add(terms, SearchField.EMAIL, account.getRegisteredEmail());
+    }
+
+    private static void add(Set<Term> terms, SearchField field, String value) {
+        String term = field.normalise(value);
+        if (term != null) terms.add(new Term(field, term));
+    }
+
+    private record Term(SearchField field, String value) {
+    }
+
+    private static final class IntStack {
+        private int[] values = new int[16];
+        private int size;
+
+        void push(int value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        int pop() {
+            return values[--size];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.netra.commons.search;
+
+import java.util.Locale;
+
+/**
+ * Dispute attributes {@link DisputeSearchIndex} can look up, each with the normalisation applied to
+ * both indexed values and queries.
+ */
+public enum SearchField {
+    RRN,
+    STAN,
+    TRANSACTION_REF,
+    ACCOUNT_NUMBER,
+    /**
+     * Digits only, with a leading 234 country code rewritten to the local 0 prefix.
+     */
+    PHONE,
+    EMAIL;
+
+    /**
+     * Normalised term, or null when {@code value} is null or blank.
+     */
+    public String normalise(String value) {
+        if (value == null) return null;
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) return null;
+        switch (this) {
+            case EMAIL:
+                return trimmed.toLowerCase(Locale.ROOT);
+            case PHONE:
+                StringBuilder digits = new StringBuilder(trimmed.length());
+                for (int i = 0; i < trimmed.length(); i++) {
+                    char c = trimmed.charAt(i);
+                    if (c >= '0' && c <= '9') digits.append(c);
+                }
+                if (digits.length() > 3 && digits.indexOf("234") == 0) {
+                    digits.replace(0, 3, "0");
+                }
+                return digits.length() == 0 ? null : digits.toString();
+            default:
+                return trimmed.toUpperCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.netra.commons.triage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code and} / {@code or} that learns the cheapest short-circuit order at runtime.
+ *
+ * Every term counts how often it is evaluated and how often it passes; roughly one evaluation in
+ * {@value #TIMING_SAMPLE_RATE} is also timed. About every {@value #REORDER_INTERVAL} evaluations the
+ * terms are re-sorted by expected cost per short circuit: cost / P(false) for {@code and},
+ * cost / P(true) for {@code or}. The result is always a boolean and terms are side-effect free,
+ * so for terms that return normally the order is unobservable.
+ *
+ * A term that throws is the exception: which term runs first, and so whether an exception
+ * surfaces at all (an earlier term may short-circuit past the throwing one) and which one, depends
+ * on the current order, just as it would if the rule's terms had been authored in that order.
+ * Compiled JSONLogic terms never throw; only a failing {@link TriageInput} accessor could.
+ */
+final class AdaptiveJunction implements Expr {
+
+    enum Kind { AND, OR }
+
+    private static final int REORDER_INTERVAL = 1024;
+    private static final int TIMING_SAMPLE_RATE = 16;
+    private static final int MIN_EVALUATIONS = 64;
+    private static final double MIN_PROBABILITY = 0.001;
+
+    private final Kind kind;
+    private final Term[] terms;
+    private volatile Term[] order;
+
+    AdaptiveJunction(Kind kind, List<Expr> exprs, List<String> sources) {
+        this.kind = kind;
+        this.terms = new Term[exprs.size()];
+        for (int i = 0; i < terms.length; i++) {
+            terms[i] = new Term(exprs.get(i), sources.get(i));
+        }
+        this.order = terms.clone();
+    }
+
+    @Override
+    public Object evaluate(TriageInput input) {
+        return test(input);
+    }
+
+    @Override
+    public boolean test(TriageInput input) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        boolean shortCircuitOn = kind == Kind.OR;
+        boolean result = !shortCircuitOn;
+
+        for (Term term : order) {
+            boolean passed;
+            if (random.nextInt(TIMING_SAMPLE_RATE) == 0) {
+                long start = System.nanoTime();
+                passed = term.expr.test(input);
+                term.sampledNanos.add(System.nanoTime() - start);
+                term.samples.increment();
+            } else {
+                passed = term.expr.test(input);
+            }
+            term.evaluations.increment();
+            if (passed) term.passes.increment();
+
+            if (passed == shortCircuitOn) {
+                result = shortCircuitOn;
+                break;
+            }
+        }
+
+        if (random.nextInt(REORDER_INTERVAL) == 0) {
+            reorder();
+        }
+        return result;
+    }
+
+    @Override
+    public void collectVars(Set<String> vars) {
+        for (Term term : terms) term.expr.collectVars(vars);
+    }
+
+    Kind getKind() {
+        return kind;
+    }
+
+    List<PredicateProfile> profiles() {
+        List<PredicateProfile> profiles = new ArrayList<>(terms.length);
+        for (Term term : order) {
+            long evaluations = term.evaluations.sum();
+            long samples = term.samples.sum();
+            profiles.add(new PredicateProfile(
+                    term.source,
+                    evaluations,
+                    term.passes.sum(),
+                    samples == 0 ? 0 : term.sampledNanos.sum() / samples));
+        }
+        return profiles;
+    }
+
+    private void reorder() {
+        Integer[] indexes = new Integer[terms.length];
+        double[] ranks = new double[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            indexes[i] = i;
+            ranks[i] = rank(terms[i]);
+        }
+        Arrays.sort(indexes, Comparator.comparingDouble(i -> ranks[i]));
+
+        Term[] next = new Term[terms.length];
+        for (int i = 0; i < next.length; i++) next[i] = terms[indexes[i]];
+        this.order = next;
+    }
+
+    private double rank(Term term) {
+        long evaluations = term.evaluations.sum();
+        long samples = term.samples.sum();
+        double cost = samples == 0 ? 1 : Math.max(1, (double) term.sampledNanos.sum() / samples);
+        double passRate = evaluations < MIN_EVALUATIONS ? 0.5 : (double) term.passes.sum() / evaluations;
+        double shortCircuitRate = kind == Kind.AND ? 1 - passRate : passRate;
+        return cost / Math.max(MIN_PROBABILITY, shortCircuitRate);
+    }
+
+    private static final class Term {
+        private final Expr expr;
+        private final String source;
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder passes = new LongAdder();
+        private final LongAdder sampledNanos = new LongAdder();
+        private final LongAdder samples = new LongAdder();
+
+        private Term(Expr expr, String source) {
+            this.expr = expr;
+            this.source = source;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.netra.commons.triage;
+
+import com.netra.commons.enums.DisputeField;
+import com.netra.commons.instrumentation.LatencyHistogram;
+import com.netra.commons.models.TriageDecisionRule;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link TriageDecisionRule} with its JSONLogic compiled once, plus its runtime statistics.
+ * Evaluations and hits are counted exactly; latency is timed on roughly one evaluation in
+ * {@value #TIMING_SAMPLE_RATE}, keeping clock reads off most evaluations.
+ */
+final class CompiledTriageRule {
+
+    private static final int TIMING_SAMPLE_RATE = 16;
+
+    private final TriageDecisionRule rule;
+    private final Expr condition;
+    private final Set<String> vars;
+    private final Set<DisputeField> inputs = EnumSet.noneOf(DisputeField.class);
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    CompiledTriageRule(TriageDecisionRule rule) {
+        this.rule = rule;
+        try {
+            this.condition = JsonLogicCompiler.compile(rule.getJsonLogic());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Triage rule '" + rule.getName() + "': " + e.getMessage(), e);
+        }
+        Set<String> collected = new LinkedHashSet<>();
+        condition.collectVars(collected);
+        this.vars = Collections.unmodifiableSet(collected);
+        for (String var : vars) inputs.addAll(DisputeField.forPath(var));
+    }
+
+    boolean matches(TriageInput input) {
+        boolean matched;
+        if (ThreadLocalRandom.current().nextInt(TIMING_SAMPLE_RATE) == 0) {
+            long start = System.nanoTime();
+            matched = condition.test(input);
+            latency.record(System.nanoTime() - start);
+        } else {
+            matched = condition.test(input);
+        }
+        evaluations.increment();
+        if (matched) hits.increment();
+        return matched;
+    }
+
+    TriageDecisionRule getRule() {
+        return rule;
+    }
+
+    Set<String> getVars() {
+        return vars;
+    }
+
+    boolean dependsOn(Set<DisputeField> changed) {
+        for (DisputeField field : changed) {
+            if (inputs.contains(field)) return true;
+        }
+        return false;
+    }
+
+    TriageRuleProfile profile() {
+        List<PredicateProfile> predicates = condition instanceof AdaptiveJunction junction
+                ? junction.profiles()
+                : List.of();
+        long evaluated = evaluations.sum();
+        long samples = latency.count();
+        // scale the sampled time up to every evaluation
+        long totalNanos = samples == 0 ? 0 : Math.round((double) latency.totalNanos() / samples * evaluated);
+        return new TriageRuleProfile(rule.getName(), evaluated, hits.sum(), totalNanos, latency, predicates);
+    }
+}
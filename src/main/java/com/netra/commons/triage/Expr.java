@@ -0,0 +1,18 @@
+package com.netra.commons.triage;
+
+import java.util.Set;
+
+/**
+ * A compiled JSONLogic expression. Expressions are side-effect free, which is what lets
+ * {@link AdaptiveJunction} evaluate its terms in any order.
+ */
+interface Expr {
+
+    Object evaluate(TriageInput input);
+
+    void collectVars(Set<String> vars);
+
+    default boolean test(TriageInput input) {
+        return JsonLogicOps.truthy(evaluate(input));
+    }
+}
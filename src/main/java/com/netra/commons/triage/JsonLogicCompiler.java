@@ -0,0 +1,371 @@
+package com.netra.commons.triage;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.netra.commons.enums.EvidenceType;
+import com.netra.commons.enums.TransactionParticipationRole;
+import com.netra.commons.features.CategoricalFeature;
+import com.netra.commons.features.DisputeFeatureVector;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiles the JSONLogic subset used by {@link com.netra.commons.models.TriageDecisionRule}:
+ * {@code var, and, or, !, !!, ==, ===, !=, !==, in, <, <=, >, >=}.
+ *
+ * Tests whose outcome is fully determined by the {@link DisputeFeatureVector} (enum equality and
+ * membership, evidence type and participant role membership, amount against a constant) compile to
+ * bitwise or primitive comparisons on the vector instead of walking the request.
+ */
+final class JsonLogicCompiler {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String AMOUNT = "transaction.amount";
+    private static final String DISPUTED_AMOUNT = "disputedAmount";
+
+    private JsonLogicCompiler() {
+    }
+
+    static Expr compile(String jsonLogic) {
+        try {
+            return compile(MAPPER.readTree(jsonLogic));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSONLogic: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    static Expr compile(JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()) return new Literal(null);
+        if (node.isArray()) {
+            List<Expr> items = new ArrayList<>(node.size());
+            for (JsonNode item : node) items.add(compile(item));
+            return new ArrayExpr(items);
+        }
+        if (!node.isObject()) return new Literal(literal(node));
+        if (node.size() != 1) {
+            throw new IllegalArgumentException("JSONLogic operation must have exactly one operator: " + node);
+        }
+
+        Map.Entry<String, JsonNode> operation = node.fields().next();
+        String operator = operation.getKey();
+        List<JsonNode> args = arguments(operation.getValue());
+
+        return switch (operator) {
+            case "var" -> new Var(args.isEmpty() ? "" : args.get(0).asText(), args.size() > 1 ? literal(args.get(1)) : null);
+            case "and" -> junction(AdaptiveJunction.Kind.AND, args);
+            case "or" -> junction(AdaptiveJunction.Kind.OR, args);
+            case "!" -> new Not(compile(arg(operator, args, 0)));
+            case "!!" -> new Truthy(compile(arg(operator, args, 0)));
+            case "==", "===" -> equals(compile(arg(operator, args, 0)), compile(arg(operator, args, 1)), false);
+            case "!=", "!==" -> equals(compile(arg(operator, args, 0)), compile(arg(operator, args, 1)), true);
+            case "in" -> in(compile(arg(operator, args, 0)), compile(arg(operator, args, 1)));
+            case "<", "<=", ">", ">=" -> compare(operator, args);
+            default -> throw new IllegalArgumentException("Unsupported JSONLogic operator: " + operator);
+        };
+    }
+
+    private static Expr junction(AdaptiveJunction.Kind kind, List<JsonNode> args) {
+        List<Expr> exprs = new ArrayList<>(args.size());
+        List<String> sources = new ArrayList<>(args.size());
+        for (JsonNode arg : args) {
+            exprs.add(compile(arg));
+            sources.add(arg.toString());
+        }
+        return new AdaptiveJunction(kind, exprs, sources);
+    }
+
+    private static Expr compare(String operator, List<JsonNode> args) {
+        Expr left = compile(arg(operator, args, 0));
+        Expr right = compile(arg(operator, args, 1));
+        boolean inclusive = operator.endsWith("=");
+        boolean less = operator.startsWith("<");
+        // {"<": [a, b, c]} is JSONLogic's "between"
+        if (less && args.size() == 3) {
+            Expr upper = compile(args.get(2));
+            return compare(left, right, true, inclusive).and(compare(right, upper, true, inclusive));
+        }
+        return compare(left, right, less, inclusive);
+    }
+
+    private static Expr equals(Expr left, Expr right, boolean negated) {
+        if (left instanceof Literal && right instanceof Var) {
+            Expr swapped = left;
+            left = right;
+            right = swapped;
+        }
+        if (left instanceof Var var && var.fallback() == null && right instanceof Literal literal
+                && literal.value() instanceof String name) {
+            CategoricalFeature feature = CategoricalFeature.forPath(var.path());
+            if (feature != null) {
+                return new CategoricalTest(var.path(), feature.mask(name), negated);
+            }
+        }
+        return new Equals(left, right, negated);
+    }
+
+    private static Expr in(Expr needle, Expr haystack) {
+        // {"in": ["DEBIT_ALERT", {"var": "evidenceTypes"}]}
+        if (needle instanceof Literal literal && literal.value() instanceof String name
+                && haystack instanceof Var var && var.fallback() == null) {
+            if (var.path().equals("evidenceTypes")) {
+                return new EvidenceTest(constantBit(EvidenceType.class, name));
+            }
+            if (var.path().equals("participantRoles")) {
+                return new RoleTest(constantBit(TransactionParticipationRole.class, name));
+            }
+        }
+        // {"in": [{"var": "transaction.errorType"}, ["FAILED_DEBIT", "NO_REVERSAL"]]}
+        if (needle instanceof Var var && var.fallback() == null && haystack instanceof ArrayExpr array) {
+            CategoricalFeature feature = CategoricalFeature.forPath(var.path());
+            if (feature != null) {
+                long mask = 0;
+                for (Expr item : array.items()) {
+                    if (!(item instanceof Literal literal && literal.value() instanceof String name)) {
+                        return new In(needle, haystack);
+                    }
+                    mask |= feature.mask(name);
+                }
+                return new CategoricalTest(var.path(), mask, false);
+            }
+        }
+        return new In(needle, haystack);
+    }
+
+    private static Compare compare(Expr left, Expr right, boolean less, boolean inclusive) {
+        return new Compare(left, right, less, inclusive, amountPath(left, right), fixedPoint(left), fixedPoint(right));
+    }
+
+    // Path of the one amount variable when the other side is a constant the vector can represent exactly.
+    private static String amountPath(Expr left, Expr right) {
+        if (left instanceof Var var && fixedPoint(right) != DisputeFeatureVector.MISSING) {
+            return amountVar(var);
+        }
+        if (right instanceof Var var && fixedPoint(left) != DisputeFeatureVector.MISSING) {
+            return amountVar(var);
+        }
+        return null;
+    }
+
+    private static String amountVar(Var var) {
+        return var.fallback() == null && (var.path().equals(AMOUNT) || var.path().equals(DISPUTED_AMOUNT)) ? var.path() : null;
+    }
+
+    private static long fixedPoint(Expr expr) {
+        if (expr instanceof Literal literal && literal.value() instanceof BigDecimal value
+                && DisputeFeatureVector.isExact(value)) {
+            return DisputeFeatureVector.toFixedPoint(value);
+        }
+        return DisputeFeatureVector.MISSING;
+    }
+
+    private static <E extends Enum<E>> long constantBit(Class<E> type, String name) {
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equals(name)) return 1L << constant.ordinal();
+        }
+        return 0L;
+    }
+
+    private static List<JsonNode> arguments(JsonNode value) {
+        List<JsonNode> args = new ArrayList<>();
+        if (value.isArray()) {
+            value.forEach(args::add);
+        } else {
+            args.add(value);
+        }
+        return args;
+    }
+
+    private static JsonNode arg(String operator, List<JsonNode> args, int index) {
+        if (index >= args.size()) {
+            throw new IllegalArgumentException("Operator '" + operator + "' expects at least " + (index + 1) + " argument(s)");
+        }
+        return args.get(index);
+    }
+
+    private static Object literal(JsonNode node) {
+        if (node == null || node.isNull()) return null;
+        if (node.isNumber()) return node.decimalValue();
+        if (node.isBoolean()) return node.booleanValue();
+        if (node.isTextual()) return node.textValue();
+        return node.toString();
+    }
+
+    record Literal(Object value) implements Expr {
+        @Override
+        public Object evaluate(TriageInput input) {
+            return value;
+        }
+
+        @Override
+        public void collectVars(Set<String> vars) {
+        }
+    }
+
+    record Var(String path, Object fallback) implements Expr {
+        @Override
+        public Object evaluate(TriageInput input) {
+            Object value = input.resolve(path);
+            return value == null ? fallback : value;
+        }
+
+        @Override
+        public void collectVars(Set<String> vars) {
+            vars.add(path);
+        }
+    }
+
+    record ArrayExpr(List<Expr> items) implements Expr {
+        @Override
+        public Object evaluate(TriageInput input) {
+            List<Object> values = new ArrayList<>(items.size());
+            for (Expr item : items) values.add(item.evaluate(input));
+            return values;
+        }
+
+        @Override
+        public void collectVars(Set<String> vars) {
+            for (Expr item : items) item.collectVars(vars);
+        }
+    }
+
+    record Not(Expr operand) implements Expr {
+        @Override
+        public Object evaluate(TriageInput input) {
+            return !operand.test(input);
+        }
+
+        @Override
+        public void collectVars(Set<String> vars) {
+            operand.collectVars(vars);
+        }
+    }
+
+    record Truthy(Expr operand) implements Expr {
+        @Override
+        public Object evaluate(TriageInput input) {
+            return operand.test(input);
+        }
+
+        @Override
+        public void collectVars(Set<String> vars) {
+            operand.collectVars(vars);
+        }
+    }
+
+    record Equals(Expr left, Expr right, boolean negated) implements Expr {
+        @Override
+        public Object evaluate(TriageInput input) {
+            return JsonLogicOps.looseEquals(left.evaluate(input), right.evaluate(input)) != negated;
+        }
+
+        @Override
+        public void collectVars(Set<String> vars) {
+            left.collectVars(vars);
+            right.collectVars(vars);
+        }
+    }
+
+    record In(Expr needle, Expr haystack) implements Expr {
+        @Override
+        public Object evaluate(TriageInput input) {
+            return JsonLogicOps.in(needle.evaluate(input), haystack.evaluate(input));
+        }
+
+        @Override
+        public void collectVars(Set<String> vars) {
+            needle.collectVars(vars);
+            haystack.collectVars(vars);
+        }
+    }
+
+    /**
+     * {@code amountPath} is set when one side is an amount variable and the other a constant, in
+     * which case the constant is pre-scaled and the vector's amount is compared directly, unless the
+     * vector had to round that amount; then both sides are compared as decimals.
+     */
+    record Compare(Expr left, Expr right, boolean less, boolean inclusive,
+                   String amountPath, long leftFixed, long rightFixed) implements Expr {
+        @Override
+        public Object evaluate(TriageInput input) {
+            if (amountPath != null) {
+                DisputeFeatureVector features = input.features();
+                boolean transaction = amountPath.equals(AMOUNT);
+                long amount = transaction ? features.getTransactionAmount() : features.getDisputedAmount();
+                if (amount == DisputeFeatureVector.MISSING) return false;
+                if (transaction ? features.isTransactionAmountExact() : features.isDisputedAmountExact()) {
+                    return outcome(Long.compare(left instanceof Var ? amount : leftFixed, right instanceof Var ? amount : rightFixed));
+                }
+            }
+            Integer compared = JsonLogicOps.compare(left.evaluate(input), right.evaluate(input));
+            return compared != null && outcome(compared);
+        }
+
+        private boolean outcome(int result) {
+            if (result == 0) return inclusive;
+            return less == (result < 0);
+        }
+
+        @Override
+        public void collectVars(Set<String> vars) {
+            left.collectVars(vars);
+            right.collectVars(vars);
+        }
+
+        Expr and(Compare other) {
+            Compare first = this;
+            return new Expr() {
+                @Override
+                public Object evaluate(TriageInput input) {
+                    return first.test(input) && other.test(input);
+                }
+
+                @Override
+                public void collectVars(Set<String> vars) {
+                    first.collectVars(vars);
+                    other.collectVars(vars);
+                }
+            };
+        }
+    }
+
+    record CategoricalTest(String path, long mask, boolean negated) implements Expr {
+        @Override
+        public Object evaluate(TriageInput input) {
+            return input.features().is(mask) != negated;
+        }
+
+        @Override
+        public void collectVars(Set<String> vars) {
+            vars.add(path);
+        }
+    }
+
+    record EvidenceTest(long bit) implements Expr {
+        @Override
+        public Object evaluate(TriageInput input) {
+            return (input.features().getEvidenceTypes() & bit) != 0;
+        }
+
+        @Override
+        public void collectVars(Set<String> vars) {
+            vars.add("evidenceTypes");
+        }
+    }
+
+    record RoleTest(long bit) implements Expr {
+        @Override
+        public Object evaluate(TriageInput input) {
+            return (input.features().getParticipantRoles() & bit) != 0;
+        }
+
+        @Override
+        public void collectVars(Set<String> vars) {
+            vars.add("participantRoles");
+        }
+    }
+}
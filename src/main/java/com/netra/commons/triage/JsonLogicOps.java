@@ -0,0 +1,75 @@
+package com.netra.commons.triage;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * JSONLogic value semantics, restricted to what triage rules need.
+ */
+final class JsonLogicOps {
+
+    private JsonLogicOps() {
+    }
+
+    static boolean truthy(Object value) {
+        if (value == null) return false;
+        if (value instanceof Boolean b) return b;
+        if (value instanceof Number n) return toDecimal(n).signum() != 0;
+        if (value instanceof CharSequence s) return !s.isEmpty();
+        if (value instanceof Collection<?> c) return !c.isEmpty();
+        return true;
+    }
+
+    static boolean looseEquals(Object left, Object right) {
+        if (left instanceof Number l && right instanceof Number r) {
+            return toDecimal(l).compareTo(toDecimal(r)) == 0;
+        }
+        if (left == null || right == null) return left == right;
+        if (left instanceof Number || right instanceof Number) {
+            BigDecimal l = toDecimal(left);
+            BigDecimal r = toDecimal(right);
+            return l != null && r != null && l.compareTo(r) == 0;
+        }
+        return Objects.equals(String.valueOf(left), String.valueOf(right));
+    }
+
+    static boolean in(Object needle, Object haystack) {
+        if (haystack instanceof Collection<?> values) {
+            for (Object value : values) {
+                if (looseEquals(needle, value)) return true;
+            }
+            return false;
+        }
+        if (haystack instanceof CharSequence text && needle != null) {
+            return text.toString().contains(String.valueOf(needle));
+        }
+        return false;
+    }
+
+    /**
+     * Numeric comparison; returns null when either side is not a number, which every
+     * comparison operator treats as false.
+     */
+    static Integer compare(Object left, Object right) {
+        BigDecimal l = toDecimal(left);
+        BigDecimal r = toDecimal(right);
+        return l == null || r == null ? null : l.compareTo(r);
+    }
+
+    static BigDecimal toDecimal(Object value) {
+        if (value instanceof BigDecimal d) return d;
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+        if (value instanceof Number n) return new BigDecimal(n.toString());
+        if (value instanceof CharSequence s) {
+            try {
+                return new BigDecimal(s.toString().trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
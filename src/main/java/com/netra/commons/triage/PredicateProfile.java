@@ -0,0 +1,44 @@
+package com.netra.commons.triage;
+
+/**
+ * Runtime statistics of one term of a rule's top-level {@code and}/{@code or}.
+ */
+public class PredicateProfile {
+
+    private final String expression;
+    private final long evaluations;
+    private final long passes;
+    private final long meanNanos;
+
+    public PredicateProfile(String expression, long evaluations, long passes, long meanNanos) {
+        this.expression = expression;
+        this.evaluations = evaluations;
+        this.passes = passes;
+        this.meanNanos = meanNanos;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public long getPasses() {
+        return passes;
+    }
+
+    public double getSelectivity() {
+        return evaluations == 0 ? 0 : (double) passes / evaluations;
+    }
+
+    public long getMeanNanos() {
+        return meanNanos;
+    }
+
+    @Override
+    public String toString() {
+        return expression + " evaluations=" + evaluations + " selectivity=" + getSelectivity() + " meanNanos=" + meanNanos;
+    }
+}
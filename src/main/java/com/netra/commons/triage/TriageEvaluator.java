@@ -0,0 +1,110 @@
+package com.netra.commons.triage;
+
+import com.netra.commons.features.DisputeFeatureVector;
+import com.netra.commons.instrumentation.Instrumentation;
+import com.netra.commons.instrumentation.LibraryMetrics;
+import com.netra.commons.models.TransactionType;
+import com.netra.commons.models.TriageDecisionRule;
+import com.netra.commons.requests.CreateDisputeRequest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Evaluates {@link TriageDecisionRule}s against dispute requests.
+ *
+ * Rules are compiled once and checked in their authored order (the first match wins), while the
+ * terms inside each rule's {@code and}/{@code or} are reordered at runtime so that cheap, selective
+ * tests run first. Per-rule hit counts and latency histograms are available from {@link #profile()}.
+ */
+public class TriageEvaluator {
+
+    private final List<CompiledTriageRule> rules;
+
+    public TriageEvaluator(List<TriageDecisionRule> rules) {
+        List<CompiledTriageRule> compiled = new ArrayList<>(rules.size());
+        for (TriageDecisionRule rule : rules) {
+            if (!Boolean.TRUE.equals(rule.getDisabled())) {
+                compiled.add(new CompiledTriageRule(rule));
+            }
+        }
+        this.rules = List.copyOf(compiled);
+    }
+
+    public static TriageEvaluator forTransactionType(TransactionType transactionType) {
+        List<TriageDecisionRule> rules = transactionType.getTriageDecisionRules();
+        return new TriageEvaluator(rules == null ? List.of() : rules);
+    }
+
+    public Optional<TriageDecisionRule> evaluate(CreateDisputeRequest request) {
+        return evaluate(TriageInput.of(request));
+    }
+
+    /**
+     * As {@link #evaluate(CreateDisputeRequest)}, sharing a feature vector already built for the request.
+     */
+    public Optional<TriageDecisionRule> evaluate(CreateDisputeRequest request, DisputeFeatureVector features) {
+        return evaluate(TriageInput.of(request, features));
+    }
+
+    private Optional<TriageDecisionRule> evaluate(TriageInput input) {
+        LibraryMetrics metrics = Instrumentation.metrics();
+        long start = metrics == LibraryMetrics.NOOP ? 0 : System.nanoTime();
+        TriageDecisionRule matched = null;
+        for (CompiledTriageRule rule : rules) {
+            if (rule.matches(input)) {
+                matched = rule.getRule();
+                break;
+            }
+        }
+        if (metrics != LibraryMetrics.NOOP) {
+            metrics.triageCompleted(System.nanoTime() - start, matched != null);
+        }
+        return Optional.ofNullable(matched);
+    }
+
+    /**
+     * Starts incremental triage of one dispute whose request will be updated over time.
+     */
+    public TriageSession session(CreateDisputeRequest request) {
+        return new TriageSession(rules, request);
+    }
+
+    public List<TriageDecisionRule> matchAll(CreateDisputeRequest request) {
+        LibraryMetrics metrics = Instrumentation.metrics();
+        long start = metrics == LibraryMetrics.NOOP ? 0 : System.nanoTime();
+        TriageInput input = TriageInput.of(request);
+        List<TriageDecisionRule> matched = new ArrayList<>();
+        for (CompiledTriageRule rule : rules) {
+            if (rule.matches(input)) matched.add(rule.getRule());
+        }
+        if (metrics != LibraryMetrics.NOOP) {
+            metrics.triageCompleted(System.nanoTime() - start, !matched.isEmpty());
+        }
+        return matched;
+    }
+
+    /**
+     * Rule profiles, most expensive (by total evaluation time) first.
+     */
+    public List<TriageRuleProfile> profile() {
+        List<TriageRuleProfile> profiles = new ArrayList<>(rules.size());
+        for (CompiledTriageRule rule : rules) profiles.add(rule.profile());
+        profiles.sort(Comparator.comparingLong(TriageRuleProfile::getTotalNanos).reversed());
+        return profiles;
+    }
+
+    /**
+     * Rules that were evaluated at least once but never matched; candidates for review or removal.
+     */
+    public List<TriageRuleProfile> neverMatched() {
+        List<TriageRuleProfile> profiles = new ArrayList<>();
+        for (CompiledTriageRule rule : rules) {
+            TriageRuleProfile profile = rule.profile();
+            if (profile.getEvaluations() > 0 && profile.isNeverMatched()) profiles.add(profile);
+        }
+        return profiles;
+    }
+}
@@ -0,0 +1,163 @@
+package com.netra.commons.triage;
+
+import com.netra.commons.enums.DisputeField;
+import com.netra.commons.features.DisputeFeatureVector;
+import com.netra.commons.models.Evidence;
+import com.netra.commons.models.TransactionParticipant;
+import com.netra.commons.requests.CreateDisputeRequest;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Variables a triage rule can read from a {@link CreateDisputeRequest}, resolved lazily and memoised
+ * for the duration of one evaluation.
+ *
+ * Any getter path works ({@code transaction.transactionType.code}); enums resolve to their names.
+ * Two derived variables are also available: {@code evidenceTypes} and {@code participantRoles}.
+ * Compiled rules that only test enums, evidence types, roles or amounts read the request's
+ * {@link DisputeFeatureVector} instead, which is built on first use unless one is supplied.
+ */
+public final class TriageInput {
+
+    private static final Map<String, Function<CreateDisputeRequest, Object>> DERIVED = Map.of(
+            "evidenceTypes", TriageInput::evidenceTypes,
+            "participantRoles", TriageInput::participantRoles
+    );
+
+    private static final Map<String, Method[]> GETTER_PATHS = new ConcurrentHashMap<>();
+    private static final Method[] UNRESOLVABLE = new Method[0];
+
+    private final CreateDisputeRequest request;
+    private final Map<String, Object> resolved = new HashMap<>(8);
+    private DisputeFeatureVector features;
+
+    private TriageInput(CreateDisputeRequest request, DisputeFeatureVector features) {
+        this.request = request;
+        this.features = features;
+    }
+
+    public static TriageInput of(CreateDisputeRequest request) {
+        return new TriageInput(request, null);
+    }
+
+    /**
+     * Reuses a vector already built for {@code request}, e.g. by the caller's own filtering.
+     */
+    public static TriageInput of(CreateDisputeRequest request, DisputeFeatureVector features) {
+        return new TriageInput(request, features);
+    }
+
+    public CreateDisputeRequest getRequest() {
+        return request;
+    }
+
+    public DisputeFeatureVector features() {
+        if (features == null) {
+            features = DisputeFeatureVector.of(request);
+        }
+        return features;
+    }
+
+    /**
+     * Forgets what the {@code changed} fields fed: memoised variables that read them, and the
+     * corresponding feature-vector attributes, which are recomputed in place of a full rebuild.
+     */
+    void invalidate(Set<DisputeField> changed) {
+        resolved.keySet().removeIf(path -> !Collections.disjoint(DisputeField.forPath(path), changed));
+        if (features != null) features = features.update(request, changed);
+    }
+
+    public Object resolve(String path) {
+        Object value = resolved.get(path);
+        if (value == null && !resolved.containsKey(path)) {
+            value = normalise(lookup(path));
+            resolved.put(path, value);
+        }
+        return value;
+    }
+
+    private Object lookup(String path) {
+        Function<CreateDisputeRequest, Object> derived = DERIVED.get(path);
+        if (derived != null) return derived.apply(request);
+
+        Object current = request;
+        for (Method getter : GETTER_PATHS.computeIfAbsent(path, TriageInput::getterPath)) {
+            if (current == null) return null;
+            try {
+                current = getter.invoke(current);
+            } catch (IllegalAccessException | InvocationTargetException | IllegalArgumentException e) {
+                // declared type differs from the runtime one (e.g. a Domain implementation); treat as missing
+                return null;
+            }
+        }
+        return current;
+    }
+
+    private static Method[] getterPath(String path) {
+        String[] segments = path.split("\\.");
+        Method[] getters = new Method[segments.length];
+        Class<?> type = CreateDisputeRequest.class;
+        for (int i = 0; i < segments.length; i++) {
+            Method getter = findGetter(type, segments[i]);
+            if (getter == null) return UNRESOLVABLE;
+            getters[i] = getter;
+            type = getter.getReturnType();
+        }
+        return getters;
+    }
+
+    private static Method findGetter(Class<?> type, String property) {
+        if (property.isEmpty()) return null;
+        String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        for (String prefix : new String[]{"get", "is"}) {
+            try {
+                return type.getMethod(prefix + suffix);
+            } catch (NoSuchMethodException ignored) {
+                // try the next prefix
+            }
+        }
+        return null;
+    }
+
+    static Object normalise(Object value) {
+        if (value instanceof Enum<?> e) return e.name();
+        if (value instanceof Collection<?> values) {
+            List<Object> normalised = new ArrayList<>(values.size());
+            for (Object v : values) normalised.add(normalise(v));
+            return normalised;
+        }
+        return value;
+    }
+
+    private static Object evidenceTypes(CreateDisputeRequest request) {
+        List<String> types = new ArrayList<>();
+        if (request.getEvidences() != null) {
+            for (Evidence evidence : request.getEvidences()) {
+                if (evidence.getEvidenceType() != null) types.add(evidence.getEvidenceType().name());
+            }
+        }
+        return types;
+    }
+
+    private static Object participantRoles(CreateDisputeRequest request) {
+        List<String> roles = new ArrayList<>();
+        if (request.getParticipants() != null) {
+            for (TransactionParticipant participant : request.getParticipants()) {
+                if (participant.getTransactionParticipationRole() != null) {
+                    roles.add(participant.getTransactionParticipationRole().name());
+                }
+            }
+        }
+        return roles;
+    }
+}
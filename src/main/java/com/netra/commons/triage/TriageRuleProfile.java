@@ -0,0 +1,79 @@
+package com.netra.commons.triage;
+
+import com.netra.commons.instrumentation.LatencyHistogram;
+
+import java.util.List;
+
+/**
+ * Snapshot of how often a triage rule ran, how often it matched, and what it cost.
+ */
+public class TriageRuleProfile {
+
+    private final String ruleName;
+    private final long evaluations;
+    private final long hits;
+    private final long totalNanos;
+    private final LatencyHistogram latency;
+    private final List<PredicateProfile> predicates;
+
+    public TriageRuleProfile(String ruleName, long evaluations, long hits, long totalNanos,
+                             LatencyHistogram latency, List<PredicateProfile> predicates) {
+        this.ruleName = ruleName;
+        this.evaluations = evaluations;
+        this.hits = hits;
+        this.totalNanos = totalNanos;
+        this.latency = latency;
+        this.predicates = predicates;
+    }
+
+    public String getRuleName() {
+        return ruleName;
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public boolean isNeverMatched() {
+        return hits == 0;
+    }
+
+    /**
+     * Estimated time spent in this rule across all evaluations, extrapolated from the timed sample.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getP50Nanos() {
+        return latency.quantileNanos(0.5);
+    }
+
+    public long getP99Nanos() {
+        return latency.quantileNanos(0.99);
+    }
+
+    /**
+     * Latencies of the sampled evaluations only; quantiles are representative, counts are not.
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Terms of the top-level {@code and}/{@code or}, in the order currently evaluated.
+     */
+    public List<PredicateProfile> getPredicates() {
+        return predicates;
+    }
+
+    @Override
+    public String toString() {
+        return ruleName + " evaluations=" + evaluations + " hits=" + hits
+                + " p50=" + getP50Nanos() + "ns p99=" + getP99Nanos() + "ns";
+    }
+}
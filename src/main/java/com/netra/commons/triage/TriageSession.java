@@ -0,0 +1,86 @@
+package com.netra.commons.triage;
+
+import com.netra.commons.enums.DisputeField;
+import com.netra.commons.instrumentation.Instrumentation;
+import com.netra.commons.instrumentation.LibraryMetrics;
+import com.netra.commons.models.TriageDecisionRule;
+import com.netra.commons.requests.CreateDisputeRequest;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Triage of a single dispute across updates. Each rule's outcome is remembered until a field the
+ * rule reads changes, so re-triaging after an update only evaluates the invalidated rules that come
+ * before the first still-known match.
+ *
+ * Not thread-safe; a session belongs to one dispute and is updated by one writer at a time.
+ */
+public final class TriageSession {
+
+    private static final byte UNKNOWN = 0;
+    private static final byte MATCHED = 1;
+    private static final byte UNMATCHED = 2;
+
+    private final List<CompiledTriageRule> rules;
+    private final CreateDisputeRequest request;
+    private final byte[] outcomes;
+    private TriageInput input;
+    private int lastEvaluations;
+
+    TriageSession(List<CompiledTriageRule> rules, CreateDisputeRequest request) {
+        this.rules = rules;
+        this.request = request;
+        this.outcomes = new byte[rules.size()];
+    }
+
+    public CreateDisputeRequest getRequest() {
+        return request;
+    }
+
+    /**
+     * The first matching rule in authored order, as {@link TriageEvaluator#evaluate} would return it.
+     */
+    public Optional<TriageDecisionRule> current() {
+        LibraryMetrics metrics = Instrumentation.metrics();
+        long start = metrics == LibraryMetrics.NOOP ? 0 : System.nanoTime();
+        int evaluations = 0;
+        TriageDecisionRule matched = null;
+        for (int i = 0; i < outcomes.length; i++) {
+            if (outcomes[i] == UNKNOWN) {
+                if (input == null) input = TriageInput.of(request);
+                outcomes[i] = rules.get(i).matches(input) ? MATCHED : UNMATCHED;
+                evaluations++;
+            }
+            if (outcomes[i] == MATCHED) {
+                matched = rules.get(i).getRule();
+                break;
+            }
+        }
+        lastEvaluations = evaluations;
+        if (evaluations > 0 && metrics != LibraryMetrics.NOOP) {
+            metrics.triageCompleted(System.nanoTime() - start, matched != null);
+        }
+        return Optional.ofNullable(matched);
+    }
+
+    /**
+     * Forgets the outcome of every rule that reads one of {@code changed}, and the input values those
+     * fields fed; call after applying an update.
+     */
+    public void invalidate(Set<DisputeField> changed) {
+        if (changed.isEmpty()) return;
+        if (input != null) input.invalidate(changed);
+        for (int i = 0; i < outcomes.length; i++) {
+            if (outcomes[i] != UNKNOWN && rules.get(i).dependsOn(changed)) outcomes[i] = UNKNOWN;
+        }
+    }
+
+    /**
+     * Rules evaluated by the last {@link #current()} call.
+     */
+    public int lastEvaluations() {
+        return lastEvaluations;
+    }
+}
@@ -0,0 +1,36 @@
+package com.netra.commons.util;
+
+/**
+ * Allocation-free 64-bit hashing helpers for primitive-keyed indexes.
+ * Not cryptographic: use {@link com.netra.commons.requests.util.DisputeRequestUtil} for dispute keys.
+ */
+public final class LongHash {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long NULL_HASH = 0x9e3779b97f4a7c15L;
+
+    private LongHash() {
+    }
+
+    public static long hash(CharSequence value) {
+        if (value == null) return NULL_HASH;
+        long h = FNV_OFFSET;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= FNV_PRIME;
+        }
+        return mix(h);
+    }
+
+    public static long combine(long hash, long value) {
+        return mix(hash * 31 + value);
+    }
+
+    // SplitMix64 finalizer
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,149 @@
+package com.netra.commons.util;
+
+/**
+ * Fixed-capacity map from long keys to long values in lock-striped open-addressing tables of
+ * primitives, for per-key state that must stay bounded however many keys pass through.
+ *
+ * The stripe is chosen by the key's low bits and the home slot by its high bits, so keys should
+ * already be well mixed (see {@link LongHash}). A key is probed for in at most {@link #PROBE_LIMIT}
+ * slots; when it is absent the {@link Policy} decides which entries are idle and may be reused.
+ * Failing that, the entry with the smallest value is overwritten and counted as an eviction.
+ * Key 0 marks an empty slot and is stored as 1.
+ */
+public final class StripedLongTable {
+
+    /** Returned by {@link #update} when the key had no entry; never a value a policy should store. */
+    public static final long ABSENT = Long.MIN_VALUE;
+
+    static final int PROBE_LIMIT = 8;
+    private static final long EMPTY = 0L;
+
+    /**
+     * How entries change; called under the stripe lock, so it must be quick and must not call back
+     * into the table.
+     */
+    public interface Policy {
+
+        /** New value for a key that already has {@code value}. */
+        long onHit(long value, long argument);
+
+        /** Value for a key inserted with {@code argument}. */
+        long onInsert(long argument);
+
+        /** Whether an entry holding {@code value} carries no information at {@code argument}. */
+        boolean isIdle(long value, long argument);
+    }
+
+    private final Policy policy;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    public StripedLongTable(int capacity, int concurrency, Policy policy) {
+        if (capacity <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException("Capacity and concurrency must be positive");
+        }
+        this.policy = policy;
+        int stripeCount = nextPowerOfTwo(concurrency);
+        int perStripe = nextPowerOfTwo(Math.max(PROBE_LIMIT, (capacity + stripeCount - 1) / stripeCount));
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Applies the policy to the key's entry, inserting it if absent, and returns the value it held
+     * before or {@link #ABSENT}.
+     */
+    public long update(long key, long argument) {
+        key = key == EMPTY ? 1 : key;
+        return stripes[(int) key & stripeMask].update(key, argument, policy);
+    }
+
+    /**
+     * Adds {@code delta} to the key's value if it still has an entry; returns whether it did.
+     */
+    public boolean add(long key, long delta) {
+        key = key == EMPTY ? 1 : key;
+        return stripes[(int) key & stripeMask].add(key, delta);
+    }
+
+    /**
+     * Entries overwritten while still live because their probe run was full.
+     */
+    public long evictions() {
+        long total = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                total += stripe.evictions;
+            }
+        }
+        return total;
+    }
+
+    public int capacity() {
+        return stripes.length * stripes[0].keys.length;
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    private static final class Stripe {
+        private final long[] keys;
+        private final long[] values;
+        private final int mask;
+        private long evictions;
+
+        private Stripe(int size) {
+            this.keys = new long[size];
+            this.values = new long[size];
+            this.mask = size - 1;
+        }
+
+        private synchronized long update(long key, long argument, Policy policy) {
+            int home = (int) (key >>> 32) & mask;
+            int free = -1;
+            int smallest = -1;
+            long smallestValue = Long.MAX_VALUE;
+
+            for (int i = 0; i < PROBE_LIMIT; i++) {
+                int slot = (home + i) & mask;
+                if (keys[slot] == key) {
+                    long previous = values[slot];
+                    values[slot] = policy.onHit(previous, argument);
+                    return previous;
+                }
+                if (free < 0) {
+                    if (keys[slot] == EMPTY || policy.isIdle(values[slot], argument)) {
+                        free = slot;
+                    } else if (smallest < 0 || values[slot] < smallestValue) {
+                        smallest = slot;
+                        smallestValue = values[slot];
+                    }
+                }
+            }
+
+            if (free < 0) {
+                free = smallest;
+                evictions++;
+            }
+            keys[free] = key;
+            values[free] = policy.onInsert(argument);
+            return ABSENT;
+        }
+
+        private synchronized boolean add(long key, long delta) {
+            int home = (int) (key >>> 32) & mask;
+            for (int i = 0; i < PROBE_LIMIT; i++) {
+                int slot = (home + i) & mask;
+                if (keys[slot] == key) {
+                    values[slot] += delta;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
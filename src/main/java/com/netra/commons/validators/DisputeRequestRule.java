@@ -0,0 +1,134 @@
+package com.netra.commons.validators;
+
+import com.netra.commons.contracts.Disputant;
+import com.netra.commons.enums.DisputantType;
+import com.netra.commons.enums.DisputeAmountType;
+import com.netra.commons.enums.DisputeField;
+import com.netra.commons.enums.TransactionParticipationRole;
+import com.netra.commons.models.Transaction;
+import com.netra.commons.models.TransactionParticipant;
+import com.netra.commons.requests.CreateDisputeRequest;
+import com.netra.commons.requests.util.TransactionRailDTO;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The rules {@link DisputeRequestValidator} enforces, in reporting order, each with the request
+ * fields it reads so that an update only needs to re-check the rules whose inputs changed.
+ *
+ * Every rule is self-contained (it is not violated when the data it constrains is absent for another
+ * rule to report), except that nothing after {@link #INITIATOR_REQUIRED} is reported when it fails.
+ */
+public enum DisputeRequestRule {
+
+    // Rule 2: If PARTIAL, then disputedAmount must be valid
+    PARTIAL_DISPUTED_AMOUNT("partialDisputedAmount", "Disputed Amount must be provided for PARTIAL disputes.", "disputedAmount",
+            EnumSet.of(DisputeField.DISPUTE_AMOUNT_TYPE, DisputeField.DISPUTED_AMOUNT),
+            r -> r.getDisputeAmountType() == DisputeAmountType.PARTIAL
+                    && (r.getDisputedAmount() == null || r.getDisputedAmount().compareTo(BigDecimal.ZERO) <= 0)),
+
+    // Rule 3 & 4: Based on Disputant Type
+    INITIATOR_REQUIRED("initiatorRequired", "Initiator is required.", "initiator",
+            EnumSet.of(DisputeField.INITIATOR),
+            r -> r.getInitiator() == null),
+    CUSTOMER_ISSUER_PARTICIPANT("customerIssuerParticipant", "At least one ISSUER participant is required for CUSTOMERUSER.", "participants",
+            EnumSet.of(DisputeField.INITIATOR, DisputeField.PARTICIPANTS),
+            r -> initiatedBy(r, DisputantType.CUSTOMERUSER) && !hasParticipantWithRole(r.getParticipants(), TransactionParticipationRole.ISSUER)),
+    CUSTOMER_ACCOUNT_DETAIL("customerAccountDetail", "Account details are required for CUSTOMERUSER.", "accountDetail",
+            EnumSet.of(DisputeField.INITIATOR, DisputeField.ACCOUNT_DETAIL),
+            r -> initiatedBy(r, DisputantType.CUSTOMERUSER) && r.getAccountDetail() == null),
+    CUSTOMER_EVIDENCE("customerEvidence", "At least one evidence is required for CUSTOMERUSER.", "evidences",
+            EnumSet.of(DisputeField.INITIATOR, DisputeField.EVIDENCES),
+            r -> initiatedBy(r, DisputantType.CUSTOMERUSER) && (r.getEvidences() == null || r.getEvidences().isEmpty())),
+    INSTITUTION_ACQUIRER_PARTICIPANT("institutionAcquirerParticipant", "ACQUIRER participant is required for INSTITUTIONUSER.", "participants",
+            EnumSet.of(DisputeField.INITIATOR, DisputeField.PARTICIPANTS),
+            r -> initiatedBy(r, DisputantType.INSTITUTIONUSER) && !hasParticipantWithRole(r.getParticipants(), TransactionParticipationRole.ACQUIRER)),
+
+    // Rule 4: Basic transaction validation
+    TRANSACTION_REQUIRED("transactionRequired", "Transaction is required.", "transaction",
+            EnumSet.of(DisputeField.TRANSACTION),
+            r -> r.getTransaction() == null),
+    TRANSACTION_AMOUNT("transactionAmount", "Transaction amount must be positive.", "transaction.amount",
+            EnumSet.of(DisputeField.TRANSACTION),
+            r -> r.getTransaction() != null
+                    && (r.getTransaction().getAmount() == null || r.getTransaction().getAmount().compareTo(BigDecimal.ZERO) <= 0)),
+    TRANSACTION_REF("transactionRef", "Transaction reference is required.", "transaction.transactionRef",
+            EnumSet.of(DisputeField.TRANSACTION),
+            r -> r.getTransaction() != null
+                    && (r.getTransaction().getTransactionRef() == null || r.getTransaction().getTransactionRef().trim().isEmpty())),
+    TRANSACTION_DATE("transactionDate", "Transaction date is required.", "transaction.transactionDate",
+            EnumSet.of(DisputeField.TRANSACTION),
+            r -> r.getTransaction() != null && r.getTransaction().getTransactionDate() == null),
+    TRANSACTION_DATE_NOT_FUTURE("transactionDateNotFuture", "Transaction date cannot be in the future.", "transaction.transactionDate",
+            EnumSet.of(DisputeField.TRANSACTION),
+            r -> r.getTransaction() != null && r.getTransaction().getTransactionDate() != null
+                    && r.getTransaction().getTransactionDate().toLocalDate().isAfter(LocalDate.now())),
+    TRANSACTION_INSTRUMENT_ID("transactionInstrumentId", "Transaction instrument ID is required.", "transaction.transactionRailDTO.instrumentId",
+            EnumSet.of(DisputeField.TRANSACTION),
+            r -> r.getTransaction() != null && !hasInstrumentId(r.getTransaction()));
+
+    private final String ruleName;
+    private final String message;
+    private final String property;
+    private final Set<DisputeField> inputs;
+    private final Predicate<CreateDisputeRequest> violation;
+
+    DisputeRequestRule(String ruleName, String message, String property, Set<DisputeField> inputs,
+                       Predicate<CreateDisputeRequest> violation) {
+        this.ruleName = ruleName;
+        this.message = message;
+        this.property = property;
+        this.inputs = inputs;
+        this.violation = violation;
+    }
+
+    /**
+     * Name reported to {@code LibraryMetrics#validationRuleFailed}.
+     */
+    public String getRuleName() {
+        return ruleName;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public Set<DisputeField> getInputs() {
+        return EnumSet.copyOf(inputs);
+    }
+
+    public boolean dependsOn(Set<DisputeField> changed) {
+        for (DisputeField field : changed) {
+            if (inputs.contains(field)) return true;
+        }
+        return false;
+    }
+
+    public boolean isViolatedBy(CreateDisputeRequest request) {
+        return violation.test(request);
+    }
+
+    private static boolean initiatedBy(CreateDisputeRequest request, DisputantType type) {
+        Disputant initiator = request.getInitiator();
+        return initiator != null && initiator.getDisputantType() == type;
+    }
+
+    private static boolean hasParticipantWithRole(List<TransactionParticipant> participants, TransactionParticipationRole role) {
+        if (participants == null) return false;
+        return participants.stream().anyMatch(p -> p.getTransactionParticipationRole() == role);
+    }
+
+    private static boolean hasInstrumentId(Transaction txn) {
+        TransactionRailDTO rail = txn.getTransactionRailDTO();
+        return rail != null && rail.getInstrumentId() != null && !rail.getInstrumentId().isEmpty();
+    }
+}
@@ -0,0 +1,128 @@
+package com.netra.commons;
+
+import com.netra.commons.enums.DisputeAmountType;
+import com.netra.commons.enums.DisputeMode;
+import com.netra.commons.enums.EvidenceType;
+import com.netra.commons.enums.TransactionChannel;
+import com.netra.commons.enums.TransactionErrorType;
+import com.netra.commons.enums.TransactionInstrument;
+import com.netra.commons.enums.TransactionParticipationRole;
+import com.netra.commons.models.AccountDetail;
+import com.netra.commons.models.CustomerUser;
+import com.netra.commons.models.Evidence;
+import com.netra.commons.models.FinancialInstitution;
+import com.netra.commons.models.InstitutionUser;
+import com.netra.commons.models.Transaction;
+import com.netra.commons.models.TransactionParticipant;
+import com.netra.commons.models.TransactionType;
+import com.netra.commons.requests.CreateDisputeRequest;
+import com.netra.commons.requests.util.TransactionRailDTO;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Valid dispute requests for tests; mutate the returned graph to set up each case.
+ */
+public final class DisputeRequests {
+
+    public static final LocalDateTime TRANSACTION_DATE = LocalDateTime.of(2025, 3, 1, 10, 30);
+
+    private DisputeRequests() {
+    }
+
+    /**
+     * A customer FAILED_DEBIT dispute over a 5,000.00 NIP transfer with a GTB issuer and a DEBIT_ALERT.
+     */
+    public static CreateDisputeRequest customerRequest() {
+        FinancialInstitution gtb = institution("GTB");
+        AccountDetail account = new AccountDetail();
+        account.setAccountNumber("0123456789");
+        account.setRegisteredPhone("+234 803 123 4567");
+        account.setRegisteredEmail("Ada@Example.com");
+        account.setIssuingInstitution(gtb);
+
+        CustomerUser customer = new CustomerUser();
+        customer.setId(42L);
+        customer.setName("Ada Obi");
+        customer.setUserPhone("08031234567");
+        customer.setUserEmail("ada@example.com");
+        customer.setAccounts(List.of(account));
+
+        CreateDisputeRequest request = new CreateDisputeRequest();
+        request.setInitiator(customer);
+        request.setAccountDetail(account);
+        request.setTransaction(transaction("NIP_TRANSFER", "5000.00"));
+        request.setParticipants(new ArrayList<>(List.of(participant(gtb, TransactionParticipationRole.ISSUER))));
+        request.setEvidences(new ArrayList<>(List.of(evidence("ev-1", EvidenceType.DEBIT_ALERT))));
+        request.setMode(DisputeMode.REFUND);
+        request.setDisputeAmountType(DisputeAmountType.FULL);
+        request.setNote("Debited but transfer failed");
+        return request;
+    }
+
+    /**
+     * A CHARGEBACK raised by an ACCESS operations user, with ACCESS as acquirer and GTB as issuer.
+     */
+    public static CreateDisputeRequest institutionRequest() {
+        FinancialInstitution access = institution("ACCESS");
+        InstitutionUser user = new InstitutionUser();
+        user.setId(7L);
+        user.setName("Ops");
+        user.setInstitution(access);
+
+        CreateDisputeRequest request = customerRequest();
+        request.setInitiator(user);
+        request.setMode(DisputeMode.CHARGEBACK);
+        request.getParticipants().add(participant(access, TransactionParticipationRole.ACQUIRER));
+        return request;
+    }
+
+    public static Transaction transaction(String typeCode, String amount) {
+        TransactionType type = new TransactionType();
+        type.setCode(typeCode);
+
+        TransactionRailDTO rail = new TransactionRailDTO();
+        rail.setInstrumentId("TID00012345");
+        rail.setInstrument(TransactionInstrument.MOBILE_APP);
+        rail.setChannel(TransactionChannel.NIP);
+
+        Transaction transaction = new Transaction();
+        transaction.setId(1001L);
+        transaction.setTransactionRef("TXN000000001");
+        transaction.setTransactionDate(TRANSACTION_DATE);
+        transaction.setAmount(new BigDecimal(amount));
+        transaction.setTransactionType(type);
+        transaction.setErrorType(TransactionErrorType.FAILED_DEBIT);
+        transaction.setTransactionRailDTO(rail);
+        transaction.setRetrievalReferenceNumber("123456789012");
+        transaction.setStan("654321");
+        transaction.setTransactionCurrencyCode("NGN");
+        return transaction;
+    }
+
+    public static FinancialInstitution institution(String code) {
+        FinancialInstitution institution = new FinancialInstitution();
+        institution.setCode(code);
+        institution.setDomainCode(code);
+        institution.setName(code + " Bank");
+        return institution;
+    }
+
+    public static TransactionParticipant participant(FinancialInstitution institution, TransactionParticipationRole role) {
+        TransactionParticipant participant = new TransactionParticipant();
+        participant.setParticipant(institution);
+        participant.setTransactionParticipationRole(role);
+        return participant;
+    }
+
+    public static Evidence evidence(String uuid, EvidenceType type) {
+        Evidence evidence = new Evidence();
+        evidence.setUuid(uuid);
+        evidence.setEvidenceType(type);
+        evidence.setExtension("jpg");
+        return evidence;
+    }
+}
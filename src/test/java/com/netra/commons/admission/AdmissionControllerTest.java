@@ -0,0 +1,175 @@
+package com.netra.commons.admission;
+
+import com.netra.commons.DisputeRequests;
+import com.netra.commons.enums.DisputantType;
+import com.netra.commons.enums.DisputeMode;
+import com.netra.commons.models.CustomerUser;
+import com.netra.commons.models.InstitutionUser;
+import com.netra.commons.requests.CreateDisputeRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdmissionControllerTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private long now = 5 * SECOND;
+    private final LongSupplier clock = () -> now;
+
+    @Test
+    void allowsTheBurstThenRefillsAtTheSustainedRate() {
+        AdmissionController controller = controller(new RateLimit(1, 3), null, Map.of(), null, 64);
+        CreateDisputeRequest request = DisputeRequests.customerRequest();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(controller.admit(request)).isEqualTo(AdmissionDecision.ADMITTED);
+        }
+        assertThat(controller.admit(request)).isEqualTo(AdmissionDecision.DISPUTANT_LIMITED);
+
+        now += SECOND;
+        assertThat(controller.admit(request)).isEqualTo(AdmissionDecision.ADMITTED);
+        assertThat(controller.admit(request)).isEqualTo(AdmissionDecision.DISPUTANT_LIMITED);
+
+        now += 10 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertThat(controller.admit(request)).isEqualTo(AdmissionDecision.ADMITTED);
+        }
+        assertThat(controller.count(AdmissionDecision.ADMITTED)).isEqualTo(7);
+        assertThat(controller.count(AdmissionDecision.DISPUTANT_LIMITED)).isEqualTo(2);
+    }
+
+    @Test
+    void disputantsHaveSeparateBuckets() {
+        AdmissionController controller = controller(new RateLimit(1, 1), null, Map.of(), null, 64);
+
+        assertThat(controller.admit(customer(42))).isEqualTo(AdmissionDecision.ADMITTED);
+        assertThat(controller.admit(customer(42))).isEqualTo(AdmissionDecision.DISPUTANT_LIMITED);
+        assertThat(controller.admit(customer(43))).isEqualTo(AdmissionDecision.ADMITTED);
+    }
+
+    @Test
+    void returnsEarlierPermitsWhenALaterLimitRejects() {
+        AdmissionController controller = controller(new RateLimit(1, 2), new RateLimit(1, 100),
+                Map.of(DisputantType.CUSTOMERUSER, new RateLimit(1, 1)), null, 64);
+        assertThat(controller.admit(customer(1))).isEqualTo(AdmissionDecision.ADMITTED);
+
+        // without the returned permits customer 2 would hit its own burst of 2 on the third try
+        for (int i = 0; i < 5; i++) {
+            assertThat(controller.admit(customer(2))).isEqualTo(AdmissionDecision.DISPUTANT_TYPE_LIMITED);
+        }
+        now += SECOND;
+        assertThat(controller.admit(customer(2))).isEqualTo(AdmissionDecision.ADMITTED);
+        assertThat(controller.admit(customer(2))).isEqualTo(AdmissionDecision.DISPUTANT_TYPE_LIMITED);
+    }
+
+    @Test
+    void institutionLimitCoversItsCustomersAndUsers() {
+        AdmissionController controller = controller(null, new RateLimit(1, 2), Map.of(), null, 64);
+
+        assertThat(controller.admit(customer(1))).isEqualTo(AdmissionDecision.ADMITTED);
+        assertThat(controller.admit(customer(2))).isEqualTo(AdmissionDecision.ADMITTED);
+        assertThat(controller.admit(customer(3))).isEqualTo(AdmissionDecision.INSTITUTION_LIMITED);
+
+        CreateDisputeRequest inquiry = DisputeRequests.institutionRequest();
+        inquiry.setMode(DisputeMode.REFUND);
+        ((InstitutionUser) inquiry.getInitiator()).setInstitution(DisputeRequests.institution("GTB"));
+        assertThat(controller.admit(inquiry)).isEqualTo(AdmissionDecision.INSTITUTION_LIMITED);
+    }
+
+    @Test
+    void chargebacksUseThePriorityLane() {
+        AdmissionController controller = controller(null, new RateLimit(1, 1),
+                Map.of(DisputantType.CUSTOMERUSER, new RateLimit(1, 1), DisputantType.INSTITUTIONUSER, new RateLimit(1, 1)),
+                new RateLimit(1, 3), 64);
+        assertThat(controller.admit(customer(1))).isEqualTo(AdmissionDecision.ADMITTED);
+        assertThat(controller.admit(customer(2))).isEqualTo(AdmissionDecision.INSTITUTION_LIMITED);
+
+        // a GTB chargeback is neither behind the GTB customers' institution bucket nor the type limit
+        CreateDisputeRequest chargeback = DisputeRequests.institutionRequest();
+        ((InstitutionUser) chargeback.getInitiator()).setInstitution(DisputeRequests.institution("GTB"));
+        assertThat(controller.admit(chargeback)).isEqualTo(AdmissionDecision.ADMITTED);
+
+        CreateDisputeRequest other = DisputeRequests.institutionRequest();
+        other.getInitiator().setName("Other");
+        ((InstitutionUser) other.getInitiator()).setId(8L);
+        ((InstitutionUser) other.getInitiator()).setInstitution(DisputeRequests.institution("ZENITH"));
+        assertThat(controller.admit(other)).isEqualTo(AdmissionDecision.ADMITTED);
+        assertThat(controller.admit(DisputeRequests.institutionRequest())).isEqualTo(AdmissionDecision.ADMITTED);
+        ((InstitutionUser) other.getInitiator()).setInstitution(DisputeRequests.institution("UBA"));
+        assertThat(controller.admit(other)).isEqualTo(AdmissionDecision.DISPUTANT_TYPE_LIMITED);
+    }
+
+    @Test
+    void initiatorWithoutATypeSkipsTheTypeLimit() {
+        AdmissionController controller = controller(new RateLimit(1, 1), null,
+                Map.of(DisputantType.CUSTOMERUSER, new RateLimit(1, 1), DisputantType.INSTITUTIONUSER, new RateLimit(1, 1)),
+                null, 64);
+        CreateDisputeRequest request = DisputeRequests.customerRequest();
+        CustomerUser untyped = new CustomerUser() {
+            @Override
+            public DisputantType getDisputantType() {
+                return null;
+            }
+        };
+        untyped.setId(42L);
+        request.setInitiator(untyped);
+
+        assertThat(controller.admit(request)).isEqualTo(AdmissionDecision.ADMITTED);
+        assertThat(controller.admit(request)).isEqualTo(AdmissionDecision.DISPUTANT_LIMITED);
+        assertThat(controller.admit(customer(42))).isEqualTo(AdmissionDecision.ADMITTED);
+        assertThat(controller.admit(customer(43))).isEqualTo(AdmissionDecision.DISPUTANT_TYPE_LIMITED);
+    }
+
+    @Test
+    void requestWithoutInitiatorIsAdmittedOnceItsKeyHasRoom() {
+        AdmissionController controller = controller(new RateLimit(1, 1), null,
+                Map.of(DisputantType.CUSTOMERUSER, new RateLimit(1, 1)), null, 64);
+        CreateDisputeRequest request = DisputeRequests.customerRequest();
+        request.setInitiator(null);
+
+        assertThat(controller.admit(request)).isEqualTo(AdmissionDecision.ADMITTED);
+        assertThat(controller.admit(request)).isEqualTo(AdmissionDecision.DISPUTANT_LIMITED);
+    }
+
+    @Test
+    void boundedCapacityReusesRefilledBucketsBeforeEvicting() {
+        AdmissionController controller = new AdmissionController(new RateLimit(1, 1), null, Map.of(), null,
+                AdmissionController.INSTITUTION_CHARGEBACKS, 8, 1, clock);
+        for (int i = 0; i < 100; i++) {
+            assertThat(controller.admit(customer(i))).isEqualTo(AdmissionDecision.ADMITTED);
+        }
+        long evictions = controller.evictions();
+        assertThat(evictions).isPositive();
+
+        now += SECOND;
+        for (int i = 100; i < 108; i++) {
+            controller.admit(customer(i));
+        }
+        assertThat(controller.evictions()).isEqualTo(evictions);
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThatThrownBy(() -> controller(new RateLimit(1, 1), null, Map.of(), null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RateLimit(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RateLimit(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AdmissionController controller(RateLimit perDisputant, RateLimit perInstitution,
+                                           Map<DisputantType, RateLimit> perType, RateLimit priorityLane, int capacity) {
+        return new AdmissionController(perDisputant, perInstitution, perType, priorityLane,
+                AdmissionController.INSTITUTION_CHARGEBACKS, capacity, 4, clock);
+    }
+
+    private static CreateDisputeRequest customer(long id) {
+        CreateDisputeRequest request = DisputeRequests.customerRequest();
+        ((CustomerUser) request.getInitiator()).setId(id);
+        return request;
+    }
+}
@@ -0,0 +1,248 @@
+package com.netra.commons.autoconfigure;
+
+import com.netra.commons.DisputeRequests;
+import com.netra.commons.admission.AdmissionController;
+import com.netra.commons.bin.BinLookupService;
+import com.netra.commons.contracts.Domain;
+import com.netra.commons.detection.DuplicateDebitDetector;
+import com.netra.commons.instrumentation.Instrumentation;
+import com.netra.commons.instrumentation.LibraryMetrics;
+import com.netra.commons.instrumentation.MicrometerLibraryMetrics;
+import com.netra.commons.models.Currency;
+import com.netra.commons.models.TransactionType;
+import com.netra.commons.reference.ReferenceDataRegistry;
+import com.netra.commons.reference.ReferenceDataSource;
+import com.netra.commons.requests.CreateDisputeRequest;
+import com.netra.commons.enums.DisputeState;
+import com.netra.commons.scheduling.DeadlineListener;
+import com.netra.commons.scheduling.DisputeDeadline;
+import com.netra.commons.scheduling.DisputeDeadlineScheduler;
+import com.netra.commons.search.DisputeSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.BeanCreationException;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NetraCommonsAutoConfigurationTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(NetraCommonsAutoConfiguration.class));
+
+    @AfterEach
+    void resetMetrics() {
+        Instrumentation.reset();
+    }
+
+    @Test
+    void registersNothingByDefault() {
+        runner.run(context -> assertThat(context)
+                .hasNotFailed()
+                .doesNotHaveBean(AdmissionController.class)
+                .doesNotHaveBean(DuplicateDebitDetector.class)
+                .doesNotHaveBean(DisputeSearchIndex.class)
+                .doesNotHaveBean(BinLookupService.class)
+                .doesNotHaveBean(DisputeDeadlineScheduler.class)
+                .doesNotHaveBean(ReferenceDataRegistry.class));
+    }
+
+    @Test
+    void enabledComponentsAreCreatedOnFirstUse() {
+        runner.withPropertyValues(
+                        "netra.commons.admission.enabled=true",
+                        "netra.commons.admission.capacity=1024",
+                        "netra.commons.duplicate-debit.enabled=true",
+                        "netra.commons.duplicate-debit.capacity=2048",
+                        "netra.commons.search.enabled=true")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(AdmissionController.class)
+                            .hasSingleBean(DuplicateDebitDetector.class)
+                            .hasSingleBean(DisputeSearchIndex.class);
+                    assertThat(context.getBeanFactory().containsSingleton("admissionController")).isFalse();
+                    assertThat(context.getBeanFactory().containsSingleton("duplicateDebitDetector")).isFalse();
+
+                    assertThat(context.getBean(DuplicateDebitDetector.class).capacity()).isEqualTo(2048);
+                    assertThat(context.getBeanFactory().containsSingleton("duplicateDebitDetector")).isTrue();
+                });
+    }
+
+    @Test
+    void admissionLimitsAreBoundFromProperties() {
+        runner.withPropertyValues(
+                        "netra.commons.admission.enabled=true",
+                        "netra.commons.admission.per-disputant.permits-per-second=1",
+                        "netra.commons.admission.per-disputant.burst=2")
+                .run(context -> {
+                    AdmissionController controller = context.getBean(AdmissionController.class);
+                    CreateDisputeRequest request = DisputeRequests.customerRequest();
+                    assertThat(controller.admit(request).isAdmitted()).isTrue();
+                    assertThat(controller.admit(request).isAdmitted()).isTrue();
+                    assertThat(controller.admit(request).isAdmitted()).isFalse();
+                });
+    }
+
+    @Test
+    void backsOffForApplicationBeans() {
+        DuplicateDebitDetector own = new DuplicateDebitDetector(Duration.ofMinutes(1), 16);
+        runner.withPropertyValues("netra.commons.duplicate-debit.enabled=true")
+                .withBean(DuplicateDebitDetector.class, () -> own)
+                .run(context -> assertThat(context.getBean(DuplicateDebitDetector.class)).isSameAs(own));
+    }
+
+    @Test
+    void binLookupLoadsItsTableOnFirstUse(@TempDir Path dir) throws IOException {
+        Path table = Files.writeString(dir.resolve("bins.csv"), "5399,5399,MASTER,FI058,GTBank\n");
+        runner.withPropertyValues("netra.commons.bin.table=" + table)
+                .run(context -> {
+                    assertThat(context.getBeanFactory().containsSingleton("binLookupService")).isFalse();
+                    BinLookupService service = context.getBean(BinLookupService.class);
+                    assertThat(service.lookup("5399 83").getIssuerCode()).isEqualTo("FI058");
+                });
+    }
+
+    @Test
+    void missingBinTableFailsOnFirstUseNotAtStartup(@TempDir Path dir) {
+        runner.withPropertyValues("netra.commons.bin.table=" + dir.resolve("missing.csv"))
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThatThrownBy(() -> context.getBean(BinLookupService.class))
+                            .isInstanceOf(BeanCreationException.class)
+                            .hasRootCauseInstanceOf(NoSuchFileException.class);
+                });
+    }
+
+    @Test
+    void deadlineSchedulerTicksWhileTheContextIsOpenAndStopsWithIt() throws InterruptedException {
+        List<DisputeDeadline> fired = new CopyOnWriteArrayList<>();
+        DisputeDeadlineScheduler[] scheduler = new DisputeDeadlineScheduler[1];
+        runner.withBean(DeadlineListener.class, () -> fired::addAll)
+                .withPropertyValues("netra.commons.deadlines.tick=20ms")
+                .run(context -> {
+                    scheduler[0] = context.getBean(DisputeDeadlineScheduler.class);
+                    scheduler[0].schedule("D1", DisputeState.EXPIRE, Instant.now());
+                    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                    while (fired.isEmpty() && System.nanoTime() < deadline) Thread.sleep(10);
+                    assertThat(fired).extracting(DisputeDeadline::getDisputeKey).containsExactly("D1");
+
+                    scheduler[0].schedule("D2", DisputeState.EXPIRE, Instant.now().plusMillis(100));
+                });
+
+        // closing the context stopped the ticker: D2 falls due but is never delivered
+        Thread.sleep(300);
+        assertThat(fired).hasSize(1);
+        assertThat(scheduler[0].size()).isEqualTo(1);
+    }
+
+    @Test
+    void foregroundReferenceDataLoadsDuringRefresh() {
+        CountingSource source = new CountingSource();
+        runner.withBean(ReferenceDataSource.class, () -> source)
+                .withPropertyValues("netra.commons.reference-data.background=false")
+                .run(context -> {
+                    assertThat(context.getBean(ReferenceDataRegistry.class).isLoaded()).isTrue();
+                    assertThat(source.loads.get()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void backgroundReferenceDataStaysOffTheRefreshPath() {
+        CountingSource source = new CountingSource();
+        runner.withBean(ReferenceDataSource.class, () -> source)
+                .run(context -> {
+                    // the loader waits for ApplicationReadyEvent, which a bare context never publishes
+                    ReferenceDataRegistry registry = context.getBean(ReferenceDataRegistry.class);
+                    assertThat(source.loads.get()).isZero();
+                    assertThat(registry.currency("NGN")).isNotNull();
+                    assertThat(source.loads.get()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    void readinessDoesNotReloadWhatALookupAlreadyLoaded() throws InterruptedException {
+        CountingSource source = new CountingSource();
+        ReferenceDataRegistry registry = new ReferenceDataRegistry(source);
+        registry.currency("NGN");
+
+        new ReferenceDataLoader(registry, true).onApplicationEvent(null);
+        Thread.sleep(100);
+        assertThat(source.loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void lookupTimeoutIsBoundFromProperties() {
+        CountingSource source = new CountingSource();
+        source.gate = new CountDownLatch(1);
+        runner.withBean(ReferenceDataSource.class, () -> source)
+                .withPropertyValues("netra.commons.reference-data.lookup-timeout=100ms")
+                .run(context -> {
+                    ReferenceDataRegistry registry = context.getBean(ReferenceDataRegistry.class);
+                    registry.loadAsync(task -> new Thread(task, "reference-data-test").start());
+                    assertThatThrownBy(() -> registry.currency("NGN"))
+                            .isInstanceOf(IllegalStateException.class)
+                            .hasMessageContaining("PT0.1S");
+                    source.gate.countDown();
+                });
+    }
+
+    @Test
+    void installsMicrometerMetricsWhileTheContextIsOpen() {
+        runner.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .run(context -> assertThat(Instrumentation.metrics()).isInstanceOf(MicrometerLibraryMetrics.class));
+        assertThat(Instrumentation.metrics()).isSameAs(LibraryMetrics.NOOP);
+    }
+
+    @Test
+    void metricsCanBeSwitchedOff() {
+        runner.withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+                .withPropertyValues("netra.commons.metrics.enabled=false")
+                .run(context -> assertThat(Instrumentation.metrics()).isSameAs(LibraryMetrics.NOOP));
+    }
+
+    private static final class CountingSource implements ReferenceDataSource {
+        private final AtomicInteger loads = new AtomicInteger();
+        private volatile CountDownLatch gate;
+
+        @Override
+        public List<Currency> currencies() {
+            loads.incrementAndGet();
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            Currency naira = new Currency();
+            naira.setCode("NGN");
+            return List.of(naira);
+        }
+
+        @Override
+        public List<Domain> domains() {
+            return List.of();
+        }
+
+        @Override
+        public List<TransactionType> transactionTypes() {
+            return List.of();
+        }
+    }
+}
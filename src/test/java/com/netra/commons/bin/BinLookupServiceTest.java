@@ -0,0 +1,118 @@
+package com.netra.commons.bin;
+
+import com.netra.commons.models.AccountDetail;
+import com.netra.commons.models.CardDTO;
+import com.netra.commons.models.CardScheme;
+import com.netra.commons.models.FinancialInstitution;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinLookupServiceTest {
+
+    private static final String TABLE = """
+            # low,high,scheme,issuerCode,issuerName
+            506099,506198,VERVE,FI044,Access Bank
+            4,4,VISA,,
+            5399,5399,MASTER,FI058,GTBank
+            """;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void resolvesRangesByPrefix() throws IOException {
+        BinRangeIndex index = BinRangeIndex.read(new StringReader(TABLE));
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.lookup("4111 1111").getCardScheme()).isEqualTo(CardScheme.VISA);
+        assertThat(index.lookup("5399-83").getIssuerCode()).isEqualTo("FI058");
+        assertThat(index.lookup("50610000").getIssuerName()).isEqualTo("Access Bank");
+        // 5061 also starts BINs outside 506099-506198
+        assertThat(index.lookup("5061")).isNull();
+        assertThat(index.lookup("3000")).isNull();
+    }
+
+    @Test
+    void rejectsOverlappingRanges() {
+        assertThatThrownBy(() -> BinRangeIndex.read(new StringReader("4,4,VISA\n41,41,VISA\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Overlapping");
+    }
+
+    @Test
+    void enrichFillsSchemeAndResolvedIssuerOnly() throws IOException {
+        FinancialInstitution gtbank = new FinancialInstitution();
+        gtbank.setCode("FI058");
+        gtbank.setDomainCode("GTB");
+        BinLookupService service = new BinLookupService(write(TABLE), Map.of("FI058", gtbank)::get);
+
+        AccountDetail known = account("5399");
+        assertThat(service.enrich(known)).isNotNull();
+        assertThat(known.getCard().getCardScheme()).isEqualTo(CardScheme.MASTER);
+        assertThat(known.getIssuingInstitution()).isSameAs(gtbank);
+
+        AccountDetail unknownIssuer = account("50610");
+        assertThat(service.enrich(unknownIssuer)).isNotNull();
+        assertThat(unknownIssuer.getCard().getCardScheme()).isEqualTo(CardScheme.VERVE);
+        assertThat(unknownIssuer.getIssuingInstitution()).isNull();
+    }
+
+    @Test
+    void enrichWithoutResolverNeverInventsAnInstitution() throws IOException {
+        BinLookupService service = new BinLookupService(write(TABLE));
+        AccountDetail account = account("5399");
+
+        assertThat(service.enrich(account).getIssuerCode()).isEqualTo("FI058");
+        assertThat(account.getIssuingInstitution()).isNull();
+    }
+
+    @Test
+    void reloadsOnlyWhenModifiedAndKeepsTableWhenFileDisappears() throws IOException {
+        Path file = write(TABLE);
+        BinLookupService service = new BinLookupService(file);
+        assertThat(service.reloadIfModified()).isFalse();
+
+        Files.writeString(file, "4,4,VISA,,\n");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        assertThat(service.reloadIfModified()).isTrue();
+        assertThat(service.getIndex().size()).isEqualTo(1);
+
+        Files.delete(file);
+        assertThat(service.reloadIfModified()).isFalse();
+        assertThat(service.lookup("4111").getCardScheme()).isEqualTo(CardScheme.VISA);
+    }
+
+    @Test
+    void malformedReloadKeepsCurrentTable() throws IOException {
+        Path file = write(TABLE);
+        BinLookupService service = new BinLookupService(file);
+
+        Files.writeString(file, "not,a,scheme\n");
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(60)));
+        assertThatThrownBy(service::reloadIfModified).isInstanceOf(IllegalArgumentException.class);
+        assertThat(service.getIndex().size()).isEqualTo(3);
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(dir.resolve("bins.csv"), content);
+    }
+
+    private static AccountDetail account(String firstFourDigits) {
+        CardDTO card = new CardDTO();
+        card.setFirstFourDigits(firstFourDigits);
+        AccountDetail account = new AccountDetail();
+        account.setCard(card);
+        return account;
+    }
+}
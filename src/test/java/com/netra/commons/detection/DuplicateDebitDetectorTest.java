@@ -0,0 +1,82 @@
+package com.netra.commons.detection;
+
+import com.netra.commons.models.Transaction;
+import com.netra.commons.requests.util.TransactionRailDTO;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DuplicateDebitDetectorTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    private final DuplicateDebitDetector detector = new DuplicateDebitDetector(Duration.ofMinutes(10), 1024, 4,
+            Clock.fixed(NOON.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    @Test
+    void flagsSameDebitWithinWindow() {
+        assertThat(detector.observe("0123456789", debit("5000.00", "TID1", NOON))).isFalse();
+        assertThat(detector.observe("0123456789", debit("5000.00", "TID1", NOON.plusMinutes(9)))).isTrue();
+    }
+
+    @Test
+    void ignoresSameDebitOutsideWindow() {
+        assertThat(detector.observe("0123456789", debit("5000.00", "TID1", NOON))).isFalse();
+        assertThat(detector.observe("0123456789", debit("5000.00", "TID1", NOON.plusMinutes(11)))).isFalse();
+    }
+
+    @Test
+    void amountScaleDoesNotMatterButValueDoes() {
+        assertThat(detector.observe("0123456789", debit("100.0", "TID1", NOON))).isFalse();
+        assertThat(detector.observe("0123456789", debit("100.00", "TID1", NOON))).isTrue();
+        assertThat(detector.observe("0123456789", debit("100.01", "TID1", NOON))).isFalse();
+        assertThat(detector.observe("0123456789", debit("10.00", "TID1", NOON))).isFalse();
+    }
+
+    @Test
+    void keysOnAccountAndInstrument() {
+        assertThat(detector.observe("0123456789", debit("5000", "TID1", NOON))).isFalse();
+        assertThat(detector.observe("9876543210", debit("5000", "TID1", NOON))).isFalse();
+        assertThat(detector.observe("0123456789", debit("5000", "TID2", NOON))).isFalse();
+    }
+
+    @Test
+    void undatedTransactionsUseTheClockOnTheSameTimeBase() {
+        assertThat(detector.observe("0123456789", debit("5000", "TID1", NOON.minusMinutes(5)))).isFalse();
+        assertThat(detector.observe("0123456789", debit("5000", "TID1", null))).isTrue();
+    }
+
+    @Test
+    void boundedCapacityCountsEvictions() {
+        DuplicateDebitDetector small = new DuplicateDebitDetector(Duration.ofHours(1), 8, 1, Clock.fixed(Instant.EPOCH, ZoneOffset.UTC));
+        for (int i = 0; i < 100; i++) {
+            small.observe("acct" + i, debit("1", "TID", NOON));
+        }
+        assertThat(small.capacity()).isEqualTo(8);
+        assertThat(small.evictions()).isPositive();
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThatThrownBy(() -> new DuplicateDebitDetector(Duration.ZERO, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new DuplicateDebitDetector(Duration.ofMinutes(1), 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Transaction debit(String amount, String instrumentId, LocalDateTime date) {
+        Transaction transaction = new Transaction();
+        transaction.setAmount(new BigDecimal(amount));
+        transaction.setTransactionDate(date);
+        TransactionRailDTO rail = new TransactionRailDTO();
+        rail.setInstrumentId(instrumentId);
+        transaction.setTransactionRailDTO(rail);
+        return transaction;
+    }
+}
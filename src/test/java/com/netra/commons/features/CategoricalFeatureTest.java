@@ -0,0 +1,36 @@
+package com.netra.commons.features;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoricalFeatureTest {
+
+    @Test
+    void featureMasksDoNotOverlap() {
+        long seen = 0;
+        for (CategoricalFeature feature : CategoricalFeature.values()) {
+            long all = 0;
+            for (Enum<?> constant : feature.getType().getEnumConstants()) {
+                long bit = feature.mask(constant);
+                assertThat(Long.bitCount(bit)).as("%s.%s", feature, constant).isEqualTo(1);
+                assertThat(all & bit).as("%s.%s", feature, constant).isZero();
+                all |= bit;
+            }
+            assertThat(seen & all).as("%s overlaps an earlier feature", feature).isZero();
+            seen |= all;
+        }
+    }
+
+    @Test
+    void masksByNameMatchMasksByConstant() {
+        for (CategoricalFeature feature : CategoricalFeature.values()) {
+            assertThat(CategoricalFeature.forPath(feature.getPath())).isSameAs(feature);
+            assertThat(CategoricalFeature.forType(feature.getType())).isSameAs(feature);
+            for (Enum<?> constant : feature.getType().getEnumConstants()) {
+                assertThat(feature.mask(constant.name())).isEqualTo(feature.mask(constant));
+            }
+            assertThat(feature.mask("NOT_A_CONSTANT")).isZero();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.netra.commons.features;
+
+import com.netra.commons.DisputeRequests;
+import com.netra.commons.enums.DisputeAmountType;
+import com.netra.commons.enums.DisputeField;
+import com.netra.commons.enums.DisputeMode;
+import com.netra.commons.enums.EvidenceType;
+import com.netra.commons.enums.TransactionChannel;
+import com.netra.commons.enums.TransactionErrorType;
+import com.netra.commons.enums.TransactionParticipationRole;
+import com.netra.commons.models.InstitutionUser;
+import com.netra.commons.models.Transaction;
+import com.netra.commons.requests.CreateDisputeRequest;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DisputeFeatureVectorTest {
+
+    @Test
+    void encodesTheRequest() {
+        DisputeFeatureVector features = DisputeFeatureVector.of(DisputeRequests.institutionRequest());
+
+        assertThat(features.hasEvidence(EvidenceType.DEBIT_ALERT)).isTrue();
+        assertThat(features.hasRole(TransactionParticipationRole.ISSUER)).isTrue();
+        assertThat(features.hasRole(TransactionParticipationRole.ACQUIRER)).isTrue();
+        assertThat(features.is(DisputeFeatureVector.mask(TransactionErrorType.FAILED_DEBIT))).isTrue();
+        assertThat(features.is(DisputeFeatureVector.mask(DisputeMode.CHARGEBACK))).isTrue();
+        assertThat(features.is(DisputeFeatureVector.mask(DisputeMode.REFUND))).isFalse();
+        assertThat(features.getTransactionAmount()).isEqualTo(50_000_000L);
+        assertThat(features.getDisputedAmount()).isEqualTo(DisputeFeatureVector.MISSING);
+        assertThat(features.getParticipantCount()).isEqualTo(2);
+        assertThat(features.getTransactionTypeCode()).isEqualTo("NIP_TRANSFER");
+    }
+
+    @Test
+    void amountsWithMoreThanFourDecimalsAreMarkedInexact() {
+        assertThat(DisputeFeatureVector.isExact(new BigDecimal("100.1234"))).isTrue();
+        assertThat(DisputeFeatureVector.isExact(new BigDecimal("100.123400"))).isTrue();
+        assertThat(DisputeFeatureVector.isExact(new BigDecimal("100.12345"))).isFalse();
+        assertThat(DisputeFeatureVector.isExact(new BigDecimal("1E+30"))).isFalse();
+        assertThat(DisputeFeatureVector.isExact(null)).isTrue();
+    }
+
+    @Test
+    void updateMatchesAFullRebuild() {
+        assertUpdateMatchesRebuild(DisputeField.EVIDENCES,
+                r -> r.getEvidences().add(DisputeRequests.evidence("ev-2", EvidenceType.POS_RECEIPT)));
+        assertUpdateMatchesRebuild(DisputeField.EVIDENCES, r -> r.setEvidences(null));
+        assertUpdateMatchesRebuild(DisputeField.PARTICIPANTS, r -> r.getParticipants().add(
+                DisputeRequests.participant(DisputeRequests.institution("UBA"), TransactionParticipationRole.ACQUIRER)));
+        assertUpdateMatchesRebuild(DisputeField.MODE, r -> r.setMode(DisputeMode.CHARGEBACK));
+        assertUpdateMatchesRebuild(DisputeField.MODE, r -> r.setMode(null));
+        assertUpdateMatchesRebuild(DisputeField.DISPUTE_AMOUNT_TYPE, r -> r.setDisputeAmountType(DisputeAmountType.PARTIAL));
+        assertUpdateMatchesRebuild(DisputeField.DISPUTED_AMOUNT, r -> r.setDisputedAmount(new BigDecimal("99.99995")));
+        assertUpdateMatchesRebuild(DisputeField.INITIATOR, r -> {
+            InstitutionUser user = new InstitutionUser();
+            user.setInstitution(DisputeRequests.institution("ACCESS"));
+            r.setInitiator(user);
+        });
+        assertUpdateMatchesRebuild(DisputeField.INITIATOR, r -> r.setInitiator(null));
+        assertUpdateMatchesRebuild(DisputeField.TRANSACTION, r -> {
+            Transaction transaction = DisputeRequests.transaction("POS_PURCHASE", "12.3456");
+            transaction.setErrorType(TransactionErrorType.values()[TransactionErrorType.values().length - 1]);
+            transaction.getTransactionRailDTO().setChannel(TransactionChannel.values()[TransactionChannel.values().length - 1]);
+            transaction.setTransactionDate(null);
+            r.setTransaction(transaction);
+        });
+        assertUpdateMatchesRebuild(DisputeField.TRANSACTION, r -> r.setTransaction(null));
+    }
+
+    @Test
+    void untrackedFieldsKeepTheVector() {
+        CreateDisputeRequest request = DisputeRequests.customerRequest();
+        DisputeFeatureVector features = DisputeFeatureVector.of(request);
+        request.setNote("changed");
+
+        assertThat(features.update(request, EnumSet.of(DisputeField.NOTE, DisputeField.ACCOUNT_DETAIL))).isSameAs(features);
+    }
+
+    private static void assertUpdateMatchesRebuild(DisputeField field, Consumer<CreateDisputeRequest> change) {
+        CreateDisputeRequest request = DisputeRequests.institutionRequest();
+        request.setDisputedAmount(new BigDecimal("2500"));
+        DisputeFeatureVector before = DisputeFeatureVector.of(request);
+        change.accept(request);
+
+        DisputeFeatureVector updated = before.update(request, EnumSet.of(field));
+        DisputeFeatureVector rebuilt = DisputeFeatureVector.of(request);
+
+        assertThat(updated).as(field.name()).usingRecursiveComparison().isEqualTo(rebuilt);
+    }
+}
@@ -0,0 +1,226 @@
+package com.netra.commons.intake;
+
+import com.netra.commons.DisputeRequests;
+import com.netra.commons.contracts.Domain;
+import com.netra.commons.enums.TransactionParticipationRole;
+import com.netra.commons.models.EndpointConfig;
+import com.netra.commons.models.FinancialInstitution;
+import com.netra.commons.models.Transaction;
+import com.netra.commons.models.TransactionParticipant;
+import com.netra.commons.models.TransactionType;
+import com.netra.commons.models.TriageDecisionRule;
+import com.netra.commons.requests.CreateDisputeRequest;
+import com.netra.commons.requests.util.DisputeRequestUtil;
+import com.netra.commons.triage.TriageEvaluator;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DisputeIntakeOrchestratorTest {
+
+    private static final ValidatorFactory VALIDATION = Validation.buildDefaultValidatorFactory();
+    private static final Validator VALIDATOR = VALIDATION.getValidator();
+
+    @AfterAll
+    static void closeValidation() {
+        VALIDATION.close();
+    }
+
+    @Test
+    void keyIsGeneratedFromLookedUpTransactionAndEnrichedParticipants() {
+        Transaction authoritative = DisputeRequests.transaction("NIP_TRANSFER", "4999.50");
+        authoritative.setTransactionRef("TXN-ISSUER-0001");
+        FinancialInstitution resolvedIssuer = DisputeRequests.institution("GTB-NG");
+
+        ParticipantEnricher enricher = participant -> {
+            Thread.sleep(20);
+            return participant.getTransactionParticipationRole() == TransactionParticipationRole.ISSUER
+                    ? DisputeRequests.participant(resolvedIssuer, TransactionParticipationRole.ISSUER)
+                    : participant;
+        };
+        TransactionLookup lookup = (endpoint, submitted) -> {
+            Thread.sleep(20);
+            return authoritative;
+        };
+
+        DisputeIntakeResult result;
+        try (DisputeIntakeOrchestrator orchestrator = orchestrator(enricher, domain -> endpoint(), lookup, Duration.ofSeconds(5))) {
+            result = orchestrator.intake(DisputeRequests.customerRequest());
+        }
+
+        CreateDisputeRequest expected = DisputeRequests.customerRequest();
+        expected.setTransaction(authoritative);
+        expected.setParticipants(new ArrayList<>(List.of(DisputeRequests.participant(resolvedIssuer, TransactionParticipationRole.ISSUER))));
+
+        assertThat(result.getRequest().getTransaction()).isSameAs(authoritative);
+        assertThat(result.getDisputeKey())
+                .isEqualTo(DisputeRequestUtil.generateDisputeKey(expected))
+                .isNotEqualTo(DisputeRequestUtil.generateDisputeKey(DisputeRequests.customerRequest()));
+    }
+
+    @Test
+    void issuerEndpointIsResolvedOffTheCallerThread() {
+        Thread caller = Thread.currentThread();
+        AtomicReference<Thread> resolvedOn = new AtomicReference<>();
+        AtomicReference<EndpointConfig> lookedUpWith = new AtomicReference<>();
+        EndpointConfig endpoint = endpoint();
+
+        try (DisputeIntakeOrchestrator orchestrator = orchestrator(null, domain -> {
+            resolvedOn.set(Thread.currentThread());
+            assertThat(domain.getCode()).isEqualTo("GTB");
+            return endpoint;
+        }, (config, submitted) -> {
+            lookedUpWith.set(config);
+            return null;
+        }, Duration.ofSeconds(5))) {
+            orchestrator.intake(DisputeRequests.customerRequest());
+        }
+
+        assertThat(resolvedOn.get()).isNotNull().isNotSameAs(caller);
+        assertThat(lookedUpWith.get()).isSameAs(endpoint);
+    }
+
+    @Test
+    void slowEndpointResolutionCountsAgainstTheDeadline() {
+        try (DisputeIntakeOrchestrator orchestrator = orchestrator(null, domain -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return endpoint();
+        }, (config, submitted) -> null, Duration.ofMillis(100))) {
+            assertThatThrownBy(() -> orchestrator.intake(DisputeRequests.customerRequest()))
+                    .isInstanceOfSatisfying(DisputeIntakeException.class,
+                            e -> assertThat(e.getReason()).isEqualTo(DisputeIntakeException.Reason.DEADLINE_EXCEEDED));
+        }
+    }
+
+    @Test
+    void missingIssuerAfterEnrichmentIsAnInvalidRequest() {
+        ParticipantEnricher dropsRole = participant -> {
+            return DisputeRequests.participant((FinancialInstitution) participant.getParticipant(), TransactionParticipationRole.ACQUIRER);
+        };
+
+        try (DisputeIntakeOrchestrator orchestrator = orchestrator(dropsRole, null, null, Duration.ofSeconds(5))) {
+            assertThatThrownBy(() -> orchestrator.intake(DisputeRequests.customerRequest()))
+                    .isInstanceOfSatisfying(DisputeIntakeException.class,
+                            e -> assertThat(e.getReason()).isEqualTo(DisputeIntakeException.Reason.INVALID_REQUEST));
+        }
+    }
+
+    @Test
+    void failingStepIsADependencyFailure() {
+        TransactionLookup failing = (endpoint, submitted) -> {
+            throw new IllegalStateException("issuer unavailable");
+        };
+
+        try (DisputeIntakeOrchestrator orchestrator = orchestrator(null, domain -> endpoint(), failing, Duration.ofSeconds(5))) {
+            assertThatThrownBy(() -> orchestrator.intake(DisputeRequests.customerRequest()))
+                    .isInstanceOfSatisfying(DisputeIntakeException.class,
+                            e -> assertThat(e.getReason()).isEqualTo(DisputeIntakeException.Reason.DEPENDENCY_FAILED))
+                    .hasMessageContaining("issuer unavailable");
+        }
+    }
+
+    @Test
+    void callerRequestIsLeftUnchanged() {
+        Transaction authoritative = DisputeRequests.transaction("NIP_TRANSFER", "4999.50");
+        CreateDisputeRequest request = DisputeRequests.customerRequest();
+        Transaction submitted = request.getTransaction();
+        List<TransactionParticipant> participants = request.getParticipants();
+
+        DisputeIntakeResult result;
+        try (DisputeIntakeOrchestrator orchestrator = orchestrator(participant -> DisputeRequests.participant(
+                DisputeRequests.institution("GTB-NG"), participant.getTransactionParticipationRole()),
+                domain -> endpoint(), (endpoint, tx) -> authoritative, Duration.ofSeconds(5))) {
+            result = orchestrator.intake(request);
+        }
+
+        assertThat(request.getTransaction()).isSameAs(submitted);
+        assertThat(request.getParticipants()).isSameAs(participants)
+                .extracting(participant -> participant.getParticipant().getCode()).containsExactly("GTB");
+        assertThat(result.getRequest()).isNotSameAs(request);
+        assertThat(result.getRequest().getTransaction()).isSameAs(authoritative);
+        assertThat(result.getRequest().getParticipants()).extracting(participant -> participant.getParticipant().getCode())
+                .containsExactly("GTB-NG");
+    }
+
+    @Test
+    void lookedUpTransactionIsRevalidated() {
+        Transaction incomplete = DisputeRequests.transaction("NIP_TRANSFER", "5000.00");
+        incomplete.setTransactionRef(null);
+
+        try (DisputeIntakeOrchestrator orchestrator = orchestrator(null, domain -> endpoint(),
+                (endpoint, submitted) -> incomplete, Duration.ofSeconds(5))) {
+            assertThatThrownBy(() -> orchestrator.intake(DisputeRequests.customerRequest()))
+                    .isInstanceOfSatisfying(DisputeIntakeException.class, e -> {
+                        assertThat(e.getReason()).isEqualTo(DisputeIntakeException.Reason.INVALID_REQUEST);
+                        assertThat(e.getViolations()).extracting(violation -> violation.getPropertyPath().toString())
+                                .contains("transaction.transactionRef");
+                    });
+        }
+    }
+
+    @Test
+    void missingKeyFieldIsAnInvalidRequest() {
+        Transaction noChannel = DisputeRequests.transaction("NIP_TRANSFER", "5000.00");
+        noChannel.getTransactionRailDTO().setChannel(null);
+
+        try (DisputeIntakeOrchestrator orchestrator = orchestrator(null, domain -> endpoint(),
+                (endpoint, submitted) -> noChannel, Duration.ofSeconds(5))) {
+            assertThatThrownBy(() -> orchestrator.intake(DisputeRequests.customerRequest()))
+                    .isInstanceOfSatisfying(DisputeIntakeException.class,
+                            e -> assertThat(e.getReason()).isEqualTo(DisputeIntakeException.Reason.INVALID_REQUEST))
+                    .hasMessageContaining("transactionRailDTO");
+        }
+    }
+
+    @Test
+    void triageStartedWithinTheDeadlineKeepsItsResult() {
+        TriageDecisionRule catchAll = new TriageDecisionRule();
+        catchAll.setName("catch-all");
+        catchAll.setNextQueue("QUEUE_1");
+        catchAll.setJsonLogic("true");
+        TriageEvaluator evaluator = new TriageEvaluator(List.of(catchAll));
+        Function<TransactionType, TriageEvaluator> slowEvaluators = type -> {
+            try {
+                Thread.sleep(150);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return evaluator;
+        };
+
+        try (DisputeIntakeOrchestrator orchestrator = new DisputeIntakeOrchestrator(VALIDATOR, null, null, null, null,
+                slowEvaluators, Duration.ofMillis(100))) {
+            DisputeIntakeResult result = orchestrator.intake(DisputeRequests.customerRequest());
+            assertThat(result.getTriageRule()).map(TriageDecisionRule::getName).hasValue("catch-all");
+            assertThat(result.getElapsed()).isGreaterThan(Duration.ofMillis(100));
+        }
+    }
+
+    private static DisputeIntakeOrchestrator orchestrator(ParticipantEnricher enricher,
+                                                         Function<Domain, EndpointConfig> resolver,
+                                                         TransactionLookup lookup, Duration deadline) {
+        return new DisputeIntakeOrchestrator(VALIDATOR, enricher, resolver, lookup, null, null, deadline);
+    }
+
+    private static EndpointConfig endpoint() {
+        EndpointConfig endpoint = new EndpointConfig();
+        endpoint.setDomainCode("GTB");
+        endpoint.setBaseUrl("https://gtb.example");
+        return endpoint;
+    }
+}
@@ -0,0 +1,162 @@
+package com.netra.commons.notification;
+
+import com.netra.commons.models.EndpointConfig;
+import com.netra.commons.models.FinancialInstitution;
+import com.netra.commons.models.TransactionParticipant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParticipantNotificationDispatcherTest {
+
+    private final List<ParticipantNotificationDispatcher> dispatchers = new ArrayList<>();
+
+    @AfterEach
+    void closeDispatchers() {
+        dispatchers.forEach(dispatcher -> dispatcher.close(Duration.ZERO));
+    }
+
+    @Test
+    void batchesPerDomainAndReportsDeliveryAfterStamping() throws InterruptedException {
+        List<List<TransactionParticipant>> delivered = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(5);
+        ParticipantNotificationDispatcher dispatcher = dispatcher((endpoint, batch) -> CompletableFuture.completedFuture(true), 2, 3);
+        dispatcher.setDeliveryHandler(batch -> {
+            assertThat(batch).allMatch(p -> p.getNotifiedAt() != null && p.getAcknowledgeAt() != null);
+            delivered.add(batch);
+            batch.forEach(p -> done.countDown());
+        });
+
+        dispatcher.submitAll(List.of(participant("GTB"), participant("GTB"), participant("GTB"), participant("UBA"), participant("UBA")));
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(delivered).allMatch(batch -> batch.size() <= 2)
+                .allMatch(batch -> batch.stream().map(p -> p.getParticipant().getCode()).distinct().count() == 1);
+    }
+
+    @Test
+    void retriesFailedBatchesUntilTheySucceed() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch delivered = new CountDownLatch(1);
+        ParticipantNotificationDispatcher dispatcher = dispatcher((endpoint, batch) -> calls.incrementAndGet() < 3
+                ? CompletableFuture.failedFuture(new IllegalStateException("down"))
+                : CompletableFuture.completedFuture(false), 10, 5);
+        dispatcher.setDeliveryHandler(batch -> delivered.countDown());
+
+        TransactionParticipant participant = participant("GTB");
+        dispatcher.submit(participant);
+
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(calls).hasValue(3);
+        assertThat(participant.getNotifiedAt()).isNotNull();
+        assertThat(participant.getAcknowledgeAt()).isNull();
+    }
+
+    @Test
+    void throwingFailureHandlerDoesNotWedgeTheDomain() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch delivered = new CountDownLatch(1);
+        ParticipantNotificationDispatcher dispatcher = dispatcher((endpoint, batch) -> calls.incrementAndGet() == 1
+                ? CompletableFuture.failedFuture(new IllegalStateException("down"))
+                : CompletableFuture.completedFuture(true), 1, 1);
+        dispatcher.setFailureHandler((batch, error) -> {
+            throw new IllegalStateException("handler bug");
+        });
+        dispatcher.setDeliveryHandler(batch -> delivered.countDown());
+
+        dispatcher.submit(participant("GTB"));
+        dispatcher.submit(participant("GTB"));
+
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void closeReportsWhatIsStillQueuedAndRejectsNewWork() {
+        CompletableFuture<Boolean> never = new CompletableFuture<>();
+        List<TransactionParticipant> failed = Collections.synchronizedList(new ArrayList<>());
+        ParticipantNotificationDispatcher dispatcher = dispatcher((endpoint, batch) -> never, 1, 1);
+        dispatcher.setFailureHandler((batch, error) -> failed.addAll(batch));
+
+        dispatcher.submitAll(List.of(participant("GTB"), participant("GTB"), participant("GTB")));
+        dispatcher.close(Duration.ofMillis(50));
+
+        // one batch is stuck in flight, the other two were never sent
+        assertThat(failed).hasSize(2);
+        assertThat(dispatcher.pendingCount()).isZero();
+        assertThatThrownBy(() -> dispatcher.submit(participant("GTB"))).isInstanceOf(IllegalStateException.class);
+
+        // a late completion is still stamped and does not hit the stopped scheduler
+        never.complete(true);
+    }
+
+    @Test
+    void closeWaitsForARunningDrainBeforeReportingUndelivered() throws InterruptedException {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<TransactionParticipant> delivered = new CopyOnWriteArrayList<>();
+        List<TransactionParticipant> failed = new CopyOnWriteArrayList<>();
+        // the sender blocks inside the drain pass and ignores the interrupt from shutdownNow
+        ParticipantNotificationDispatcher dispatcher = dispatcher((endpoint, batch) -> {
+            sending.countDown();
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    release.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) Thread.currentThread().interrupt();
+            return CompletableFuture.completedFuture(true);
+        }, 1, 1);
+        dispatcher.setDeliveryHandler(delivered::addAll);
+        dispatcher.setFailureHandler((batch, error) -> failed.addAll(batch));
+
+        List<TransactionParticipant> participants = List.of(participant("GTB"), participant("GTB"), participant("GTB"));
+        dispatcher.submitAll(participants);
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread closer = new Thread(() -> dispatcher.close(Duration.ZERO));
+        closer.start();
+        Thread.sleep(50);
+        release.countDown();
+        closer.join(5_000);
+
+        // every participant is reported exactly once, either way
+        assertThat(delivered).hasSize(1);
+        assertThat(failed).hasSize(2).doesNotContainAnyElementsOf(delivered);
+        assertThat(dispatcher.pendingCount()).isZero();
+    }
+
+    private ParticipantNotificationDispatcher dispatcher(NotificationSender sender, int maxBatchSize, int maxAttempts) {
+        ConcurrentHashMap<String, EndpointConfig> endpoints = new ConcurrentHashMap<>();
+        ParticipantNotificationDispatcher dispatcher = new ParticipantNotificationDispatcher(sender,
+                domain -> endpoints.computeIfAbsent(domain.getCode(), code -> new EndpointConfig()),
+                maxBatchSize, 4, maxAttempts, Duration.ofMillis(1), Duration.ofMillis(5), Clock.systemUTC());
+        dispatchers.add(dispatcher);
+        return dispatcher;
+    }
+
+    private static TransactionParticipant participant(String institutionCode) {
+        FinancialInstitution institution = new FinancialInstitution();
+        institution.setCode(institutionCode);
+        TransactionParticipant participant = new TransactionParticipant();
+        participant.setParticipant(institution);
+        return participant;
+    }
+}
@@ -0,0 +1,127 @@
+package com.netra.commons.partitioning;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 100_000;
+
+    @Test
+    void emptyRingLocatesNothing() {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>(Function.identity());
+
+        assertThat(ring.isEmpty()).isTrue();
+        assertThat(ring.locate("dispute-1")).isNull();
+    }
+
+    @Test
+    void rejectsNonPositiveWeightsAndVirtualNodes() {
+        assertThatThrownBy(() -> new ConsistentHashRing<String>(Function.identity(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ConsistentHashRing<String>(Function.identity()).addMember("node-0", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 8, 32})
+    void loadStaysWithinSkewBound(int members) {
+        ConsistentHashRing<String> ring = ring(members);
+
+        Map<String, Integer> counts = counts(assign(ring));
+
+        assertThat(counts).hasSize(members);
+        double fair = (double) KEYS / members;
+        for (int count : counts.values()) {
+            assertThat(count / fair).isBetween(0.75, 1.25);
+        }
+    }
+
+    @Test
+    void weightedMemberGetsProportionalShare() {
+        ConsistentHashRing<String> ring = ring(6);
+        ring.addMember("node-heavy", 3);
+
+        Map<String, Integer> counts = counts(assign(ring));
+
+        double fair = (double) KEYS * 3 / 9;
+        assertThat(counts.get("node-heavy") / fair).isBetween(0.85, 1.15);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 8, 32})
+    void joiningMemberOnlyTakesKeys(int members) {
+        ConsistentHashRing<String> ring = ring(members);
+        String[] before = assign(ring);
+
+        ring.addMember("node-new", 1);
+        String[] after = assign(ring);
+
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            if (before[i].equals(after[i])) continue;
+            assertThat(after[i]).isEqualTo("node-new");
+            moved++;
+        }
+        double ideal = 1.0 / (members + 1);
+        assertThat((double) moved / KEYS).isBetween(ideal * 0.75, ideal * 1.25);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, 8, 32})
+    void leavingMemberOnlyGivesUpItsOwnKeys(int members) {
+        ConsistentHashRing<String> ring = ring(members);
+        String[] before = assign(ring);
+
+        assertThat(ring.removeMember("node-0")).isTrue();
+        String[] after = assign(ring);
+
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            if (before[i].equals(after[i])) continue;
+            assertThat(before[i]).isEqualTo("node-0");
+            assertThat(after[i]).isNotEqualTo("node-0");
+            moved++;
+        }
+        assertThat(moved).isEqualTo(counts(before).get("node-0"));
+        assertThat(ring.removeMember("node-0")).isFalse();
+    }
+
+    @Test
+    void placementDependsOnMembershipNotInsertionOrder() {
+        ConsistentHashRing<String> forward = new ConsistentHashRing<>(Function.identity());
+        ConsistentHashRing<String> reverse = new ConsistentHashRing<>(Function.identity());
+        for (int i = 0; i < 8; i++) {
+            forward.addMember("node-" + i, 1);
+            reverse.addMember("node-" + (7 - i), 1);
+        }
+
+        assertThat(assign(reverse)).isEqualTo(assign(forward));
+    }
+
+    private static ConsistentHashRing<String> ring(int members) {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>(Function.identity());
+        for (int i = 0; i < members; i++) ring.addMember("node-" + i, 1);
+        return ring;
+    }
+
+    private static String[] assign(ConsistentHashRing<String> ring) {
+        String[] owners = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) owners[i] = ring.locate("dispute-" + i);
+        return owners;
+    }
+
+    private static Map<String, Integer> counts(String[] owners) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String owner : owners) counts.merge(owner, 1, Integer::sum);
+        return counts;
+    }
+}
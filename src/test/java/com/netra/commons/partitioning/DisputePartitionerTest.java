@@ -0,0 +1,73 @@
+package com.netra.commons.partitioning;
+
+import com.netra.commons.DisputeRequests;
+import com.netra.commons.enums.TransactionParticipationRole;
+import com.netra.commons.requests.CreateDisputeRequest;
+import com.netra.commons.requests.util.DisputeRequestUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DisputePartitionerTest {
+
+    @Test
+    void issuerAffinityPinsEveryDisputeOfAnIssuerToOneMember() {
+        DisputePartitioner<String> partitioner = new DisputePartitioner<>(ring(8), DisputePartitioner.Affinity.ISSUER);
+
+        Set<String> owners = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            CreateDisputeRequest request = DisputeRequests.customerRequest();
+            request.getTransaction().setTransactionRef("TXN" + i);
+            owners.add(partitioner.forRequest(request));
+        }
+
+        assertThat(owners).containsExactly(partitioner.forIssuer("GTB"));
+    }
+
+    @Test
+    void disputeAffinitySpreadsAnIssuersDisputes() {
+        DisputePartitioner<String> partitioner = new DisputePartitioner<>(ring(8), DisputePartitioner.Affinity.DISPUTE);
+
+        Set<String> owners = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            CreateDisputeRequest request = DisputeRequests.customerRequest();
+            request.getTransaction().setTransactionRef("TXN" + i);
+            assertThat(partitioner.forRequest(request))
+                    .isEqualTo(partitioner.forDisputeKey(DisputeRequestUtil.generateDisputeKey(request)));
+            owners.add(partitioner.forRequest(request));
+        }
+
+        assertThat(owners).hasSize(8);
+    }
+
+    @Test
+    void issuerAffinityIgnoresNonIssuerParticipants() {
+        DisputePartitioner<String> partitioner = new DisputePartitioner<>(ring(8), DisputePartitioner.Affinity.ISSUER);
+        CreateDisputeRequest request = DisputeRequests.institutionRequest();
+        request.setParticipants(List.of(
+                DisputeRequests.participant(DisputeRequests.institution("ACCESS"), TransactionParticipationRole.ACQUIRER),
+                DisputeRequests.participant(DisputeRequests.institution("ZENITH"), TransactionParticipationRole.ISSUER)));
+
+        assertThat(partitioner.forRequest(request)).isEqualTo(partitioner.forIssuer("ZENITH"));
+    }
+
+    @Test
+    void disputeKeyHashUsesTheLeadingHexDigits() {
+        String key = "0123456789abcdef" + "f".repeat(48);
+
+        assertThat(DisputePartitioner.disputeKeyHash(key)).isEqualTo(0x0123456789abcdefL);
+        assertThat(DisputePartitioner.disputeKeyHash("not-a-hex-digest-at-all"))
+                .isNotEqualTo(DisputePartitioner.disputeKeyHash("not-a-hex-digest-at-all!"));
+    }
+
+    private static ConsistentHashRing<String> ring(int members) {
+        ConsistentHashRing<String> ring = new ConsistentHashRing<>(Function.identity());
+        for (int i = 0; i < members; i++) ring.addMember("node-" + i, 1);
+        return ring;
+    }
+}
@@ -0,0 +1,226 @@
+package com.netra.commons.persistence;
+
+import com.netra.commons.models.Evidence;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WriteBehindEntityStoreTest {
+
+    // long enough that only the test flushes
+    private static final Duration MANUAL = Duration.ofHours(1);
+
+    private final InMemoryEntityStore<Evidence> backend = new InMemoryEntityStore<>();
+
+    @Test
+    void repeatedWritesToOneIdCoalesce() {
+        try (WriteBehindEntityStore<Evidence> store = new WriteBehindEntityStore<>(backend, 100, MANUAL, 1_000)) {
+            Evidence evidence = evidence(1, "v0");
+            for (int i = 1; i <= 50; i++) {
+                evidence.setUuid("v" + i);
+                store.save(evidence);
+            }
+            store.flush();
+
+            assertThat(backend.rowsWritten()).isEqualTo(1);
+            assertThat(backend.findById(1L)).map(Evidence::getUuid).hasValue("v50");
+            assertThat(store.submittedWrites()).isEqualTo(50);
+            assertThat(store.flushedWrites()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void readsSeeBufferedWritesAndDeletes() {
+        backend.saveAll(List.of(evidence(2, "stored")));
+        try (WriteBehindEntityStore<Evidence> store = new WriteBehindEntityStore<>(backend, 100, MANUAL, 1_000)) {
+            store.save(evidence(1, "buffered"));
+            store.deleteAll(List.of(2L));
+
+            assertThat(store.findById(1L)).map(Evidence::getUuid).hasValue("buffered");
+            assertThat(store.findById(2L)).isEmpty();
+            assertThat(backend.findById(1L)).isEmpty();
+            assertThat(backend.findById(2L)).isPresent();
+
+            store.flush();
+            assertThat(backend.findById(1L)).isPresent();
+            assertThat(backend.findById(2L)).isEmpty();
+            assertThat(store.pendingCount()).isZero();
+        }
+    }
+
+    @Test
+    void flushWritesInBatchesOfAtMostMaxBatchSize() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        InMemoryEntityStore<Evidence> recording = new InMemoryEntityStore<>() {
+            @Override
+            public void saveAll(List<Evidence> batch) {
+                batchSizes.add(batch.size());
+                super.saveAll(batch);
+            }
+        };
+        // a background flush may also start once a batch worth is pending
+        try (WriteBehindEntityStore<Evidence> store = new WriteBehindEntityStore<>(recording, 10, MANUAL, 1_000)) {
+            for (int i = 0; i < 25; i++) store.save(evidence(i, "e" + i));
+            store.flush();
+
+            assertThat(recording.size()).isEqualTo(25);
+            assertThat(batchSizes).allSatisfy(size -> assertThat(size).isBetween(1, 10));
+            assertThat(batchSizes).hasSizeGreaterThanOrEqualTo(3);
+        }
+    }
+
+    @Test
+    void failedBatchIsKeptAndRetried() {
+        FlakyStore flaky = new FlakyStore(1);
+        try (WriteBehindEntityStore<Evidence> store = new WriteBehindEntityStore<>(flaky, 100, MANUAL, 1_000)) {
+            store.save(evidence(1, "v1"));
+
+            assertThatThrownBy(store::flush).isInstanceOf(IllegalStateException.class);
+            assertThat(store.pendingCount()).isEqualTo(1);
+            assertThat(store.findById(1L)).map(Evidence::getUuid).hasValue("v1");
+
+            store.flush();
+            assertThat(flaky.findById(1L)).map(Evidence::getUuid).hasValue("v1");
+            assertThat(store.pendingCount()).isZero();
+        }
+    }
+
+    @Test
+    void failedBatchDoesNotOverwriteANewerWrite() {
+        FlakyStore flaky = new FlakyStore(1);
+        try (WriteBehindEntityStore<Evidence> store = new WriteBehindEntityStore<>(flaky, 100, MANUAL, 1_000)) {
+            flaky.duringNextWrite = () -> store.save(evidence(1, "newer"));
+            store.save(evidence(1, "older"));
+
+            assertThatThrownBy(store::flush).isInstanceOf(IllegalStateException.class);
+            assertThat(store.findById(1L)).map(Evidence::getUuid).hasValue("newer");
+
+            store.flush();
+            assertThat(flaky.findById(1L)).map(Evidence::getUuid).hasValue("newer");
+        }
+    }
+
+    @Test
+    void writersFlushInlineOnceMaxPendingIsReached() {
+        try (WriteBehindEntityStore<Evidence> store = new WriteBehindEntityStore<>(backend, 2, MANUAL, 4)) {
+            for (int i = 0; i < 4; i++) store.save(evidence(i, "e" + i));
+
+            assertThat(backend.size()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void backgroundFlushRunsOnTheInterval() throws InterruptedException {
+        try (WriteBehindEntityStore<Evidence> store = new WriteBehindEntityStore<>(backend, 100, Duration.ofMillis(20), 1_000)) {
+            store.save(evidence(1, "v1"));
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (backend.size() == 0 && System.nanoTime() < deadline) Thread.sleep(5);
+            assertThat(backend.findById(1L)).isPresent();
+        }
+    }
+
+    @Test
+    void closeFlushesAndRejectsLaterWrites() {
+        WriteBehindEntityStore<Evidence> store = new WriteBehindEntityStore<>(backend, 100, MANUAL, 1_000);
+        store.save(evidence(1, "v1"));
+        store.close();
+
+        assertThat(backend.findById(1L)).isPresent();
+        assertThatThrownBy(() -> store.save(evidence(2, "v2"))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void writesRacingCloseAreEitherFlushedOrRejected() throws InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            InMemoryEntityStore<Evidence> rows = new InMemoryEntityStore<>();
+            WriteBehindEntityStore<Evidence> store = new WriteBehindEntityStore<>(rows, 4, MANUAL, 1_000);
+            Set<Long> accepted = ConcurrentHashMap.newKeySet();
+            List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+            CountDownLatch started = new CountDownLatch(4);
+            Thread[] writers = new Thread[4];
+            for (int t = 0; t < writers.length; t++) {
+                long base = t * 1_000_000L;
+                writers[t] = new Thread(() -> {
+                    started.countDown();
+                    for (long id = base; ; id++) {
+                        try {
+                            store.save(evidence(id, "e" + id));
+                            accepted.add(id);
+                        } catch (IllegalStateException closed) {
+                            return;
+                        } catch (Throwable e) {
+                            unexpected.add(e);
+                            return;
+                        }
+                    }
+                });
+                writers[t].start();
+            }
+            started.await();
+            store.close();
+            for (Thread writer : writers) writer.join();
+
+            assertThat(unexpected).isEmpty();
+            assertThat(rows.size()).isEqualTo(accepted.size());
+            assertThat(accepted).allSatisfy(id -> assertThat(rows.findById(id)).isPresent());
+        }
+    }
+
+    @Test
+    void rejectsEntitiesWithoutIdsAndBadSettings() {
+        assertThatThrownBy(() -> new WriteBehindEntityStore<>(backend, 10, MANUAL, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        try (WriteBehindEntityStore<Evidence> store = new WriteBehindEntityStore<>(backend, 100, MANUAL, 1_000)) {
+            assertThatThrownBy(() -> store.save(new Evidence())).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static Evidence evidence(long id, String uuid) {
+        Evidence evidence = new Evidence();
+        evidence.setId(id);
+        evidence.setUuid(uuid);
+        return evidence;
+    }
+
+    // Fails its first {@code failures} writes; runs {@code duringNextWrite} inside the next one.
+    private static final class FlakyStore implements EntityStore<Evidence> {
+        private final InMemoryEntityStore<Evidence> rows = new InMemoryEntityStore<>();
+        private final AtomicInteger failures;
+        private Runnable duringNextWrite;
+
+        FlakyStore(int failures) {
+            this.failures = new AtomicInteger(failures);
+        }
+
+        @Override
+        public void saveAll(List<Evidence> entities) {
+            Runnable hook = duringNextWrite;
+            duringNextWrite = null;
+            if (hook != null) hook.run();
+            if (failures.getAndDecrement() > 0) throw new IllegalStateException("backend unavailable");
+            rows.saveAll(entities);
+        }
+
+        @Override
+        public void deleteAll(Collection<Long> ids) {
+            rows.deleteAll(ids);
+        }
+
+        @Override
+        public Optional<Evidence> findById(Long id) {
+            return rows.findById(id);
+        }
+    }
+}
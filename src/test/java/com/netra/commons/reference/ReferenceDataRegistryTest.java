@@ -0,0 +1,152 @@
+package com.netra.commons.reference;
+
+import com.netra.commons.contracts.Domain;
+import com.netra.commons.enums.CurrencyType;
+import com.netra.commons.models.Currency;
+import com.netra.commons.models.TransactionType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReferenceDataRegistryTest {
+
+    private static final Executor NEW_THREAD = task -> new Thread(task, "reference-data-test").start();
+
+    @Test
+    void firstLookupLoadsWhenNothingIsRunning() {
+        GatedSource source = new GatedSource();
+        ReferenceDataRegistry registry = new ReferenceDataRegistry(source);
+
+        assertThat(registry.isLoaded()).isFalse();
+        assertThat(registry.currency("NGN").getName()).isEqualTo("Naira");
+        assertThat(registry.triageEvaluator("NIP_TRANSFER")).isNotNull();
+        assertThat(registry.triageEvaluator("UNKNOWN")).isNull();
+        assertThat(source.loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void lookupGivesUpOnASlowLoadAfterTheTimeout() throws InterruptedException {
+        GatedSource source = new GatedSource();
+        source.gate = new CountDownLatch(1);
+        ReferenceDataRegistry registry = new ReferenceDataRegistry(source, Duration.ofMillis(100));
+        registry.loadAsync(NEW_THREAD);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> registry.currency("NGN"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not loaded within");
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+        source.gate.countDown();
+        assertThat(registry.awaitLoaded(Duration.ofSeconds(5))).isTrue();
+        assertThat(registry.currency("NGN")).isNotNull();
+        assertThat(source.loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void lookupWaitingOnAnotherLookupsLoadHonoursTheTimeout() throws InterruptedException {
+        GatedSource source = new GatedSource();
+        source.gate = new CountDownLatch(1);
+        ReferenceDataRegistry registry = new ReferenceDataRegistry(source, Duration.ofMillis(100));
+        Thread first = new Thread(() -> registry.currency("NGN"), "first-lookup");
+        first.start();
+        try {
+            while (source.loads.get() == 0) Thread.onSpinWait();
+
+            // the first lookup loads on its own thread without holding the registry monitor
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> registry.currency("NGN")).isInstanceOf(IllegalStateException.class);
+            assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(2));
+        } finally {
+            source.gate.countDown();
+            first.join();
+        }
+        assertThat(registry.currency("NGN")).isNotNull();
+        assertThat(source.loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void loadAsyncAfterALoadReloads() {
+        GatedSource source = new GatedSource();
+        ReferenceDataRegistry registry = new ReferenceDataRegistry(source);
+        registry.load();
+        registry.loadAsync(Runnable::run).join();
+
+        assertThat(source.loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void awaitLoadedReportsTimeout() throws InterruptedException {
+        GatedSource source = new GatedSource();
+        source.gate = new CountDownLatch(1);
+        ReferenceDataRegistry registry = new ReferenceDataRegistry(source);
+        registry.loadAsync(NEW_THREAD);
+
+        assertThat(registry.awaitLoaded(Duration.ofMillis(50))).isFalse();
+        source.gate.countDown();
+        assertThat(registry.awaitLoaded(Duration.ofSeconds(5))).isTrue();
+    }
+
+    @Test
+    void failedLoadIsRetriedByTheNextLookup() {
+        GatedSource source = new GatedSource();
+        source.failures = 1;
+        ReferenceDataRegistry registry = new ReferenceDataRegistry(source);
+
+        assertThatThrownBy(() -> registry.currency("NGN"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("failed to load");
+        assertThat(registry.currency("NGN")).isNotNull();
+        assertThat(source.loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void rejectsNonPositiveTimeout() {
+        assertThatThrownBy(() -> new ReferenceDataRegistry(new GatedSource(), Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class GatedSource implements ReferenceDataSource {
+        private final AtomicInteger loads = new AtomicInteger();
+        private volatile CountDownLatch gate;
+        private volatile int failures;
+
+        @Override
+        public List<Currency> currencies() {
+            loads.incrementAndGet();
+            if (failures > 0) {
+                failures--;
+                throw new IllegalStateException("source down");
+            }
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return List.of(new Currency("NGN", "Naira", "₦", CurrencyType.FIAT, 2, false));
+        }
+
+        @Override
+        public List<Domain> domains() {
+            return List.of();
+        }
+
+        @Override
+        public List<TransactionType> transactionTypes() {
+            TransactionType type = new TransactionType();
+            type.setCode("NIP_TRANSFER");
+            type.setTriageDecisionRules(List.of());
+            return List.of(type);
+        }
+    }
+}
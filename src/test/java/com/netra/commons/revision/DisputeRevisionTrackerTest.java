@@ -0,0 +1,125 @@
+package com.netra.commons.revision;
+
+import com.netra.commons.DisputeRequests;
+import com.netra.commons.enums.DisputeAmountType;
+import com.netra.commons.enums.DisputeField;
+import com.netra.commons.enums.DisputeMode;
+import com.netra.commons.enums.EvidenceType;
+import com.netra.commons.instrumentation.Instrumentation;
+import com.netra.commons.instrumentation.StripedLibraryMetrics;
+import com.netra.commons.models.TriageDecisionRule;
+import com.netra.commons.requests.CreateDisputeRequest;
+import com.netra.commons.requests.UpdateDisputeRequest;
+import com.netra.commons.triage.TriageEvaluator;
+import com.netra.commons.validators.DisputeRequestRule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DisputeRevisionTrackerTest {
+
+    private final TriageEvaluator evaluator = new TriageEvaluator(List.of(
+            rule("large-partial", "{\"and\":[{\"==\":[{\"var\":\"disputeAmountType\"},\"PARTIAL\"]},"
+                    + "{\">=\":[{\"var\":\"disputedAmount\"},1000]}]}"),
+            rule("urgent-note", "{\"in\":[\"urgent\",{\"var\":\"note\"}]}"),
+            rule("has-receipt", "{\"in\":[\"POS_RECEIPT\",{\"var\":\"evidenceTypes\"}]}"),
+            rule("chargeback", "{\"==\":[{\"var\":\"mode\"},\"CHARGEBACK\"]}")));
+
+    @AfterEach
+    void resetMetrics() {
+        Instrumentation.reset();
+    }
+
+    @Test
+    void onlyAffectedValidationRulesAreRechecked() {
+        DisputeRevisionTracker tracker = new DisputeRevisionTracker(DisputeRequests.customerRequest(), null);
+
+        UpdateDisputeRequest update = new UpdateDisputeRequest();
+        update.setDisputeAmountType(DisputeAmountType.PARTIAL);
+        DisputeRevision revision = tracker.apply(update);
+
+        assertThat(revision.getChangedFields()).containsExactly(DisputeField.DISPUTE_AMOUNT_TYPE);
+        assertThat(revision.getViolations()).containsExactly(DisputeRequestRule.PARTIAL_DISPUTED_AMOUNT);
+        assertThat(revision.getValidationRulesChecked()).isLessThan(DisputeRequestRule.values().length);
+
+        UpdateDisputeRequest amount = new UpdateDisputeRequest();
+        amount.setDisputedAmount(new BigDecimal("1200"));
+        assertThat(tracker.apply(amount).isValid()).isTrue();
+    }
+
+    @Test
+    void partialRechecksAreReportedApartFromFullValidation() {
+        StripedLibraryMetrics metrics = new StripedLibraryMetrics();
+        Instrumentation.install(metrics);
+        DisputeRevisionTracker tracker = new DisputeRevisionTracker(DisputeRequests.customerRequest(), null);
+
+        UpdateDisputeRequest update = new UpdateDisputeRequest();
+        update.setDisputeAmountType(DisputeAmountType.PARTIAL);
+        DisputeRevision revision = tracker.apply(update);
+
+        assertThat(metrics.getValidationLatency().count()).isEqualTo(1);
+        assertThat(metrics.getRevalidationLatency().count()).isEqualTo(1);
+        assertThat(metrics.getRevalidatedRules()).isEqualTo(revision.getValidationRulesChecked());
+    }
+
+    @Test
+    void triageAfterEachUpdateMatchesAFreshEvaluation() {
+        DisputeRevisionTracker tracker = new DisputeRevisionTracker(DisputeRequests.customerRequest(), evaluator);
+
+        UpdateDisputeRequest partial = new UpdateDisputeRequest();
+        partial.setDisputeAmountType(DisputeAmountType.PARTIAL);
+        partial.setDisputedAmount(new BigDecimal("999.99995"));
+        assertTriageMatchesFresh(tracker, tracker.apply(partial));
+
+        UpdateDisputeRequest note = new UpdateDisputeRequest();
+        note.setNote("urgent: customer escalated");
+        assertTriageMatchesFresh(tracker, tracker.apply(note));
+
+        UpdateDisputeRequest calm = new UpdateDisputeRequest();
+        calm.setNote("resolved with branch");
+        calm.setMode(DisputeMode.CHARGEBACK);
+        assertTriageMatchesFresh(tracker, tracker.apply(calm));
+
+        UpdateDisputeRequest receipt = new UpdateDisputeRequest();
+        receipt.setAddedEvidences(List.of(DisputeRequests.evidence("ev-2", EvidenceType.POS_RECEIPT)));
+        assertTriageMatchesFresh(tracker, tracker.apply(receipt));
+
+        UpdateDisputeRequest larger = new UpdateDisputeRequest();
+        larger.setDisputedAmount(new BigDecimal("1000"));
+        DisputeRevision revision = tracker.apply(larger);
+        assertTriageMatchesFresh(tracker, revision);
+        assertThat(revision.getTriageRule()).map(TriageDecisionRule::getName).hasValue("large-partial");
+    }
+
+    @Test
+    void unrelatedUpdateReevaluatesNoTriageRule() {
+        DisputeRevisionTracker tracker = new DisputeRevisionTracker(DisputeRequests.customerRequest(), evaluator);
+
+        UpdateDisputeRequest account = new UpdateDisputeRequest();
+        account.setAccountDetail(DisputeRequests.institutionRequest().getAccountDetail());
+        account.getAccountDetail().setAccountNumber("9999999999");
+        DisputeRevision revision = tracker.apply(account);
+
+        assertThat(revision.getChangedFields()).containsExactly(DisputeField.ACCOUNT_DETAIL);
+        assertThat(revision.getTriageRulesEvaluated()).isZero();
+    }
+
+    private void assertTriageMatchesFresh(DisputeRevisionTracker tracker, DisputeRevision revision) {
+        CreateDisputeRequest request = tracker.getRequest();
+        assertThat(revision.getTriageRule().map(TriageDecisionRule::getName))
+                .as("after %s", revision.getChangedFields())
+                .isEqualTo(evaluator.evaluate(request).map(TriageDecisionRule::getName));
+    }
+
+    private static TriageDecisionRule rule(String name, String jsonLogic) {
+        TriageDecisionRule rule = new TriageDecisionRule();
+        rule.setName(name);
+        rule.setDisabled(false);
+        rule.setJsonLogic(jsonLogic);
+        return rule;
+    }
+}
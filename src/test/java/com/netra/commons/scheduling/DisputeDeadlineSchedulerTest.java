@@ -0,0 +1,243 @@
+package com.netra.commons.scheduling;
+
+import com.netra.commons.enums.DisputeState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DisputeDeadlineSchedulerTest {
+
+    private static final Instant START = Instant.parse("2025-03-01T00:00:00Z");
+
+    private final MutableClock clock = new MutableClock(START);
+    private final List<DisputeDeadline> fired = new ArrayList<>();
+
+    @Test
+    void firesAtTheDeadlineNeverEarly() {
+        DisputeDeadlineScheduler scheduler = scheduler(fired::addAll);
+        scheduler.schedule("D1", DisputeState.EXPIRE, START.plusMillis(2500));
+
+        clock.advance(Duration.ofMillis(2400));
+        assertThat(scheduler.advance()).isZero();
+
+        clock.advance(Duration.ofMillis(700));
+        assertThat(scheduler.advance()).isEqualTo(1);
+        assertThat(fired).extracting(DisputeDeadline::getDisputeKey).containsExactly("D1");
+        assertThat(scheduler.size()).isZero();
+    }
+
+    @Test
+    void cascadesDeadlinesFromHigherLevels() {
+        DisputeDeadlineScheduler scheduler = scheduler(fired::addAll);
+        // 256 ticks per level: these land on levels 1, 2 and beyond the 2^32-tick horizon
+        scheduler.schedule("D1", DisputeState.ESCALATED, START.plusSeconds(300));
+        scheduler.schedule("D2", DisputeState.EXPIRE, START.plus(Duration.ofDays(2)));
+        scheduler.schedule("D3", DisputeState.EXPIRE, START.plus(Duration.ofDays(365 * 200)));
+
+        clock.advance(Duration.ofSeconds(299));
+        assertThat(scheduler.advance()).isZero();
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(scheduler.advance()).isEqualTo(1);
+
+        clock.advance(Duration.ofDays(2));
+        assertThat(scheduler.advance()).isEqualTo(1);
+        assertThat(fired).extracting(DisputeDeadline::getDisputeKey).containsExactly("D1", "D2");
+        assertThat(scheduler.size()).isEqualTo(1);
+    }
+
+    @Test
+    void rescheduleReplacesAndCancelRemoves() {
+        DisputeDeadlineScheduler scheduler = scheduler(fired::addAll);
+        scheduler.schedule("D1", DisputeState.EXPIRE, START.plusSeconds(5));
+        scheduler.schedule("D1", DisputeState.EXPIRE, START.plusSeconds(50));
+        scheduler.schedule("D1", DisputeState.ESCALATED, START.plusSeconds(10));
+        scheduler.schedule("D2", DisputeState.EXPIRE, START.plusSeconds(10));
+        assertThat(scheduler.size()).isEqualTo(3);
+
+        assertThat(scheduler.cancel("D2", DisputeState.EXPIRE)).isTrue();
+        assertThat(scheduler.cancel("D2", DisputeState.EXPIRE)).isFalse();
+
+        clock.advance(Duration.ofSeconds(20));
+        scheduler.advance();
+        assertThat(fired).extracting(DisputeDeadline::getAction).containsExactly(DisputeState.ESCALATED);
+        assertThat(scheduler.cancelAll("D1")).isEqualTo(1);
+        assertThat(scheduler.size()).isZero();
+    }
+
+    @Test
+    void pastDeadlinesFireOnNextAdvance() {
+        DisputeDeadlineScheduler scheduler = scheduler(fired::addAll);
+        scheduler.schedule("D1", DisputeState.EXPIRE, START.minusSeconds(60));
+        assertThat(scheduler.advance()).isEqualTo(1);
+    }
+
+    @Test
+    void deliversEveryBatchAndRedeliversFailedOnes() {
+        AtomicInteger calls = new AtomicInteger();
+        DisputeDeadlineScheduler scheduler = new DisputeDeadlineScheduler(batch -> {
+            if (calls.incrementAndGet() == 1) throw new IllegalStateException("listener down");
+            fired.addAll(batch);
+        }, Duration.ofSeconds(1), 2, clock);
+        for (int i = 0; i < 5; i++) {
+            scheduler.schedule("D" + i, DisputeState.EXPIRE, START.plusSeconds(1));
+        }
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThatThrownBy(scheduler::advance).hasMessage("listener down");
+        assertThat(fired).hasSize(3);
+        assertThat(scheduler.size()).isEqualTo(2);
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(scheduler.advance()).isEqualTo(2);
+        assertThat(fired).extracting(DisputeDeadline::getDisputeKey).containsExactlyInAnyOrder("D0", "D1", "D2", "D3", "D4");
+    }
+
+    @Test
+    void failedBatchDoesNotOverrideANewerSchedule() {
+        DisputeDeadlineScheduler[] self = new DisputeDeadlineScheduler[1];
+        self[0] = new DisputeDeadlineScheduler(batch -> {
+            self[0].schedule("D1", DisputeState.EXPIRE, START.plusSeconds(60));
+            throw new IllegalStateException("listener down");
+        }, Duration.ofSeconds(1), 10, clock);
+        self[0].schedule("D1", DisputeState.EXPIRE, START.plusSeconds(1));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThatThrownBy(self[0]::advance).isInstanceOf(IllegalStateException.class);
+        assertThat(self[0].size()).isEqualTo(1);
+    }
+
+    @Test
+    void deadlineCancelledDuringAFailedDeliveryIsNotRedelivered() {
+        DisputeDeadlineScheduler[] self = new DisputeDeadlineScheduler[1];
+        AtomicInteger calls = new AtomicInteger();
+        self[0] = new DisputeDeadlineScheduler(batch -> {
+            calls.incrementAndGet();
+            // the dispute was ACCEPTed while its deadlines were being delivered
+            assertThat(self[0].cancel("D1", DisputeState.EXPIRE)).isFalse();
+            assertThat(self[0].cancelAll("D2")).isZero();
+            throw new IllegalStateException("listener down");
+        }, Duration.ofSeconds(1), 10, clock);
+        self[0].schedule("D1", DisputeState.EXPIRE, START.plusSeconds(1));
+        self[0].schedule("D2", DisputeState.EXPIRE, START.plusSeconds(1));
+        self[0].schedule("D3", DisputeState.EXPIRE, START.plusSeconds(1));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThatThrownBy(self[0]::advance).isInstanceOf(IllegalStateException.class);
+        assertThat(self[0].size()).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThatThrownBy(self[0]::advance).isInstanceOf(IllegalStateException.class);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void deadlineCancelledBeforeItsBatchIsOfferedIsLeftOut() {
+        DisputeDeadlineScheduler[] self = new DisputeDeadlineScheduler[1];
+        self[0] = new DisputeDeadlineScheduler(batch -> {
+            fired.addAll(batch);
+            self[0].cancelAll("D1");
+            self[0].cancelAll("D2");
+        }, Duration.ofSeconds(1), 1, clock);
+        self[0].schedule("D1", DisputeState.EXPIRE, START.plusSeconds(1));
+        self[0].schedule("D2", DisputeState.EXPIRE, START.plusSeconds(1));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(self[0].advance()).isEqualTo(1);
+        assertThat(fired).hasSize(1);
+    }
+
+    @Test
+    void overdueDeadlinesCanBeCancelled() {
+        DisputeDeadlineScheduler scheduler = scheduler(fired::addAll);
+        scheduler.schedule("D1", DisputeState.EXPIRE, START.minusSeconds(60));
+        scheduler.schedule("D2", DisputeState.EXPIRE, START.minusSeconds(30));
+        scheduler.schedule("D3", DisputeState.EXPIRE, START.minusSeconds(10));
+
+        assertThat(scheduler.cancel("D2", DisputeState.EXPIRE)).isTrue();
+        assertThat(scheduler.size()).isEqualTo(2);
+        assertThat(scheduler.advance()).isEqualTo(2);
+        assertThat(fired).extracting(DisputeDeadline::getDisputeKey).containsExactlyInAnyOrder("D1", "D3");
+    }
+
+    @Test
+    void restoreRejectsOtherFormats(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("deadlines.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            out.writeInt(0x4E445753);
+            out.writeByte(1);
+            out.writeInt(1);
+            out.writeUTF("D1");
+            out.writeByte(99);
+            out.writeLong(START.toEpochMilli());
+        }
+
+        assertThatThrownBy(() -> scheduler(fired::addAll).restore(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Not a deadline checkpoint");
+    }
+
+    @Test
+    void checkpointRoundTrips(@TempDir Path dir) throws IOException {
+        DisputeDeadlineScheduler scheduler = scheduler(fired::addAll);
+        scheduler.schedule("D1", DisputeState.EXPIRE, START.plusSeconds(30));
+        scheduler.schedule("D1", DisputeState.ESCALATED, START.plusSeconds(10));
+        scheduler.schedule("D2", DisputeState.CLOSED, START.plusSeconds(20));
+        Path file = dir.resolve("deadlines.bin");
+        scheduler.checkpoint(file);
+
+        DisputeDeadlineScheduler restored = scheduler(fired::addAll);
+        assertThat(restored.restore(file)).isEqualTo(3);
+        clock.advance(Duration.ofSeconds(60));
+        restored.advance();
+        assertThat(fired).extracting(d -> d.getDisputeKey() + ":" + d.getAction() + "@" + d.getDeadline().getEpochSecond())
+                .containsExactlyInAnyOrder("D1:EXPIRE@" + START.plusSeconds(30).getEpochSecond(),
+                        "D1:ESCALATED@" + START.plusSeconds(10).getEpochSecond(),
+                        "D2:CLOSED@" + START.plusSeconds(20).getEpochSecond());
+    }
+
+    private DisputeDeadlineScheduler scheduler(DeadlineListener listener) {
+        return new DisputeDeadlineScheduler(listener, Duration.ofSeconds(1), 1024, clock);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
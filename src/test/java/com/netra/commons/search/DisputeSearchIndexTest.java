@@ -0,0 +1,160 @@
+package com.netra.commons.search;
+
+import com.netra.commons.DisputeRequests;
+import com.netra.commons.requests.CreateDisputeRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DisputeSearchIndexTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void findsDisputesByNormalisedTerms() {
+        DisputeSearchIndex index = new DisputeSearchIndex();
+        index.index("D1", DisputeRequests.customerRequest());
+
+        assertThat(index.exact(SearchField.RRN, " 123456789012 ")).containsExactly("D1");
+        assertThat(index.exact(SearchField.EMAIL, "ADA@example.COM")).containsExactly("D1");
+        assertThat(index.exact(SearchField.PHONE, "+234 803 123 4567")).containsExactly("D1");
+        assertThat(index.exact(SearchField.ACCOUNT_NUMBER, "0123456789")).containsExactly("D1");
+        assertThat(index.exact(SearchField.STAN, "000000")).isEmpty();
+        assertThat(index.exact(SearchField.RRN, "  ")).isEmpty();
+    }
+
+    @Test
+    void prefixLookupIsOrderedByTermAndLimited() {
+        DisputeSearchIndex index = new DisputeSearchIndex();
+        index.index("D2", request("TXN002", "200000000002"));
+        index.index("D1", request("TXN001", "200000000001"));
+        index.index("D3", request("TXN003", "300000000003"));
+
+        assertThat(index.prefix(SearchField.RRN, "2000", 10)).containsExactly("D1", "D2");
+        assertThat(index.prefix(SearchField.TRANSACTION_REF, "txn", 2)).containsExactly("D1", "D2");
+        assertThat(index.prefix(SearchField.RRN, "2000", 0)).isEmpty();
+    }
+
+    @Test
+    void reindexingMovesOnlyChangedTerms() {
+        DisputeSearchIndex index = new DisputeSearchIndex();
+        index.index("D1", request("TXN001", "100000000001"));
+        index.index("D2", request("TXN002", "100000000001"));
+
+        index.index("D1", request("TXN001", "100000000009"));
+
+        assertThat(index.exact(SearchField.RRN, "100000000001")).containsExactly("D2");
+        assertThat(index.exact(SearchField.RRN, "100000000009")).containsExactly("D1");
+        assertThat(index.exact(SearchField.TRANSACTION_REF, "TXN001")).containsExactly("D1");
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void removedDisputesDisappearAndTheirIdsAreReused() {
+        DisputeSearchIndex index = new DisputeSearchIndex();
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 100; i++) index.index("D" + round + "-" + i, request("TXN" + round + "-" + i, rrn(round * 100 + i)));
+            for (int i = 0; i < 100; i++) assertThat(index.remove("D" + round + "-" + i)).isTrue();
+        }
+
+        assertThat(index.size()).isZero();
+        assertThat(index.allocatedDocIds()).isEqualTo(100);
+        assertThat(index.exact(SearchField.RRN, rrn(4_999))).isEmpty();
+        assertThat(index.remove("D0-0")).isFalse();
+
+        index.index("again", request("TXN-again", rrn(7)));
+        assertThat(index.exact(SearchField.RRN, rrn(7))).containsExactly("again");
+        assertThat(index.exact(SearchField.EMAIL, "ada@example.com")).containsExactly("again");
+    }
+
+    @Test
+    void concurrentLookupsNeverSeeAReusedIdUnderAnotherKey() throws InterruptedException {
+        DisputeSearchIndex index = new DisputeSearchIndex();
+        AtomicBoolean running = new AtomicBoolean(true);
+        ConcurrentLinkedQueue<String> wrong = new ConcurrentLinkedQueue<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < 4; r++) {
+            int seed = r;
+            Thread reader = new Thread(() -> {
+                int i = seed;
+                while (running.get()) {
+                    int n = i++ % 64;
+                    for (String key : index.exact(SearchField.RRN, rrn(n))) {
+                        if (!key.startsWith(n + "/")) wrong.add(key + " for " + n);
+                    }
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        for (int round = 0; round < 2_000; round++) {
+            int n = round % 64;
+            index.index(n + "/" + round, request("TXN" + round, rrn(n)));
+            if (round >= 32) index.remove(((round - 32) % 64) + "/" + (round - 32));
+        }
+        running.set(false);
+        for (Thread reader : readers) reader.join();
+
+        assertThat(wrong).isEmpty();
+        assertThat(index.size()).isEqualTo(32);
+    }
+
+    @Test
+    void saveCompactsAndLoadRestoresLookups() throws IOException {
+        DisputeSearchIndex index = new DisputeSearchIndex();
+        Map<String, CreateDisputeRequest> batch = new LinkedHashMap<>();
+        for (int i = 0; i < 10; i++) batch.put("D" + i, request("TXN" + i, rrn(i)));
+        index.indexAll(batch);
+        index.remove("D3");
+        index.remove("D7");
+        Path file = dir.resolve("disputes.ndsi");
+
+        index.save(file);
+        DisputeSearchIndex loaded = DisputeSearchIndex.load(file);
+
+        assertThat(loaded.size()).isEqualTo(8);
+        assertThat(loaded.allocatedDocIds()).isEqualTo(8);
+        assertThat(loaded.exact(SearchField.RRN, rrn(3))).isEmpty();
+        assertThat(loaded.exact(SearchField.RRN, rrn(4))).containsExactly("D4");
+        assertThat(loaded.exact(SearchField.EMAIL, "ada@example.com")).hasSize(8);
+
+        // loaded documents carry their terms, so re-indexing and removal still update the postings
+        loaded.index("D4", request("TXN4", rrn(44)));
+        assertThat(loaded.exact(SearchField.RRN, rrn(4))).isEmpty();
+        assertThat(loaded.exact(SearchField.RRN, rrn(44))).containsExactly("D4");
+        assertThat(loaded.remove("D5")).isTrue();
+        assertThat(loaded.exact(SearchField.TRANSACTION_REF, "TXN5")).isEmpty();
+    }
+
+    @Test
+    void loadRejectsForeignFiles() throws IOException {
+        Path file = Files.write(dir.resolve("junk.ndsi"), new byte[]{1, 2, 3, 4, 5, 6});
+
+        assertThatThrownBy(() -> DisputeSearchIndex.load(file)).isInstanceOf(IOException.class);
+    }
+
+    private static CreateDisputeRequest request(String transactionRef, String rrn) {
+        CreateDisputeRequest request = DisputeRequests.customerRequest();
+        request.getTransaction().setTransactionRef(transactionRef);
+        request.getTransaction().setRetrievalReferenceNumber(rrn);
+        return request;
+    }
+
+    private static String rrn(int n) {
+        return String.format("%012d", n);
+    }
+}
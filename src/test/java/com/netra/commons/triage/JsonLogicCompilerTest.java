@@ -0,0 +1,184 @@
+package com.netra.commons.triage;
+
+import com.netra.commons.DisputeRequests;
+import com.netra.commons.enums.EvidenceType;
+import com.netra.commons.enums.TransactionChannel;
+import com.netra.commons.enums.TransactionErrorType;
+import com.netra.commons.enums.TransactionParticipationRole;
+import com.netra.commons.features.DisputeFeatureVector;
+import com.netra.commons.requests.CreateDisputeRequest;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks every lowered form against the same test evaluated on the request, value by value.
+ */
+class JsonLogicCompilerTest {
+
+    private static final String[] AMOUNTS = {"0", "99.99", "99.9999", "99.99995", "99.99994", "100", "100.00000",
+            "100.00004", "100.00005", "100.0001", "2500.5", "2500.50005", "5000", "5000.00001", "1E+30", "-1E+30"};
+
+    @Test
+    void amountComparisonMatchesDecimalComparison() {
+        for (String operator : new String[]{"<", "<=", ">", ">="}) {
+            assertAmountMatchesGeneric("{\"" + operator + "\":[{\"var\":\"transaction.amount\"},100]}");
+            assertAmountMatchesGeneric("{\"" + operator + "\":[100,{\"var\":\"transaction.amount\"}]}");
+            assertAmountMatchesGeneric("{\"" + operator + "\":[{\"var\":\"disputedAmount\"},2500.5]}");
+        }
+    }
+
+    @Test
+    void roundedInputIsNotComparedAsItsRoundedValue() {
+        Expr expr = JsonLogicCompiler.compile("{\">=\":[{\"var\":\"transaction.amount\"},100]}");
+
+        assertThat(expr.test(TriageInput.of(withAmount("99.99995")))).isFalse();
+        assertThat(expr.test(TriageInput.of(withAmount("100.00000")))).isTrue();
+        assertThat(DisputeFeatureVector.of(withAmount("99.99995")).isTransactionAmountExact()).isFalse();
+        assertThat(DisputeFeatureVector.of(withAmount("100.00000")).isTransactionAmountExact()).isTrue();
+    }
+
+    @Test
+    void constantWithMoreThanFourDecimalsIsNotLowered() {
+        Expr expr = JsonLogicCompiler.compile("{\"<\":[{\"var\":\"transaction.amount\"},99.99995]}");
+
+        assertThat(expr).isInstanceOfSatisfying(JsonLogicCompiler.Compare.class, compare -> assertThat(compare.amountPath()).isNull());
+        assertThat(expr.test(TriageInput.of(withAmount("99.9999")))).isTrue();
+        assertThat(expr.test(TriageInput.of(withAmount("99.99995")))).isFalse();
+    }
+
+    @Test
+    void betweenMatchesDecimalComparison() {
+        Expr lowered = JsonLogicCompiler.compile("{\"<=\":[0,{\"var\":\"transaction.amount\"},5000]}");
+        for (String amount : AMOUNTS) {
+            BigDecimal value = new BigDecimal(amount);
+            boolean expected = value.signum() >= 0 && value.compareTo(new BigDecimal(5000)) <= 0;
+            assertThat(lowered.test(TriageInput.of(withAmount(amount)))).as(amount).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void missingAmountNeverCompares() {
+        CreateDisputeRequest request = DisputeRequests.customerRequest();
+        request.getTransaction().setAmount(null);
+
+        assertThat(JsonLogicCompiler.compile("{\"<\":[{\"var\":\"transaction.amount\"},100]}").test(TriageInput.of(request))).isFalse();
+        assertThat(JsonLogicCompiler.compile("{\">\":[{\"var\":\"transaction.amount\"},100]}").test(TriageInput.of(request))).isFalse();
+    }
+
+    @Test
+    void categoricalTestsMatchStringComparison() {
+        for (TransactionErrorType errorType : TransactionErrorType.values()) {
+            String name = errorType.name();
+            assertLoweredMatchesGeneric("{\"==\":[{\"var\":\"transaction.errorType\"},\"" + name + "\"]}",
+                    new JsonLogicCompiler.Equals(var("transaction.errorType"), literal(name), false));
+            assertLoweredMatchesGeneric("{\"!=\":[\"" + name + "\",{\"var\":\"transaction.errorType\"}]}",
+                    new JsonLogicCompiler.Equals(literal(name), var("transaction.errorType"), true));
+        }
+        assertLoweredMatchesGeneric("{\"==\":[{\"var\":\"transaction.errorType\"},\"NOT_A_CONSTANT\"]}",
+                new JsonLogicCompiler.Equals(var("transaction.errorType"), literal("NOT_A_CONSTANT"), false));
+        assertLoweredMatchesGeneric("{\"in\":[{\"var\":\"transaction.transactionRailDTO.channel\"},[\"NIP\",\"POS_SWITCH\"]]}",
+                new JsonLogicCompiler.In(var("transaction.transactionRailDTO.channel"),
+                        new JsonLogicCompiler.ArrayExpr(List.of(literal("NIP"), literal("POS_SWITCH")))));
+        assertLoweredMatchesGeneric("{\"in\":[{\"var\":\"initiator.disputantType\"},[\"CUSTOMER\"]]}",
+                new JsonLogicCompiler.In(var("initiator.disputantType"), new JsonLogicCompiler.ArrayExpr(List.of(literal("CUSTOMER")))));
+    }
+
+    @Test
+    void membershipTestsMatchListMembership() {
+        for (EvidenceType type : EvidenceType.values()) {
+            assertLoweredMatchesGeneric("{\"in\":[\"" + type.name() + "\",{\"var\":\"evidenceTypes\"}]}",
+                    new JsonLogicCompiler.In(literal(type.name()), var("evidenceTypes")));
+        }
+        for (TransactionParticipationRole role : TransactionParticipationRole.values()) {
+            assertLoweredMatchesGeneric("{\"in\":[\"" + role.name() + "\",{\"var\":\"participantRoles\"}]}",
+                    new JsonLogicCompiler.In(literal(role.name()), var("participantRoles")));
+        }
+    }
+
+    @Test
+    void rejectsMalformedRules() {
+        assertThatThrownBy(() -> JsonLogicCompiler.compile("{\"==\":[1]"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonLogicCompiler.compile("{\"==\":[1,1],\"!=\":[1,2]}"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> JsonLogicCompiler.compile("{\"<\":[1]}"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertAmountMatchesGeneric(String jsonLogic) {
+        Expr lowered = JsonLogicCompiler.compile(jsonLogic);
+        assertThat(lowered).isInstanceOf(JsonLogicCompiler.Compare.class);
+        JsonLogicCompiler.Compare compare = (JsonLogicCompiler.Compare) lowered;
+        assertThat(compare.amountPath()).as("%s is lowered", jsonLogic).isNotNull();
+
+        Expr generic = new JsonLogicCompiler.Compare(compare.left(), compare.right(), compare.less(), compare.inclusive(),
+                null, DisputeFeatureVector.MISSING, DisputeFeatureVector.MISSING);
+        assertSameOutcome(jsonLogic, lowered, generic, amountRequests());
+    }
+
+    private static void assertLoweredMatchesGeneric(String jsonLogic, Expr generic) {
+        Expr lowered = JsonLogicCompiler.compile(jsonLogic);
+        assertThat(lowered).as("%s is lowered", jsonLogic).isNotInstanceOfAny(
+                JsonLogicCompiler.Equals.class, JsonLogicCompiler.In.class);
+
+        assertSameOutcome(jsonLogic, lowered, generic, variedRequests());
+    }
+
+    private static void assertSameOutcome(String jsonLogic, Expr lowered, Expr generic, List<CreateDisputeRequest> requests) {
+        for (CreateDisputeRequest request : requests) {
+            assertThat(lowered.test(TriageInput.of(request)))
+                    .as("%s on %s", jsonLogic, request)
+                    .isEqualTo(generic.test(TriageInput.of(request)));
+        }
+    }
+
+    private static Expr var(String path) {
+        return new JsonLogicCompiler.Var(path, null);
+    }
+
+    private static Expr literal(Object value) {
+        return new JsonLogicCompiler.Literal(value);
+    }
+
+    private static List<CreateDisputeRequest> amountRequests() {
+        List<CreateDisputeRequest> requests = new ArrayList<>();
+        for (String amount : AMOUNTS) {
+            CreateDisputeRequest request = withAmount(amount);
+            request.setDisputedAmount(new BigDecimal(amount));
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    private static List<CreateDisputeRequest> variedRequests() {
+        List<CreateDisputeRequest> requests = new ArrayList<>();
+        requests.add(DisputeRequests.customerRequest());
+        requests.add(DisputeRequests.institutionRequest());
+        for (TransactionErrorType errorType : TransactionErrorType.values()) {
+            CreateDisputeRequest request = DisputeRequests.institutionRequest();
+            request.getTransaction().setErrorType(errorType);
+            request.getTransaction().getTransactionRailDTO().setChannel(TransactionChannel.values()[errorType.ordinal() % TransactionChannel.values().length]);
+            request.getEvidences().add(DisputeRequests.evidence("ev-" + errorType, EvidenceType.values()[errorType.ordinal() % EvidenceType.values().length]));
+            requests.add(request);
+        }
+        CreateDisputeRequest empty = DisputeRequests.customerRequest();
+        empty.setEvidences(null);
+        empty.setParticipants(null);
+        empty.getTransaction().setErrorType(null);
+        empty.getTransaction().getTransactionRailDTO().setChannel(null);
+        requests.add(empty);
+        return requests;
+    }
+
+    private static CreateDisputeRequest withAmount(String amount) {
+        CreateDisputeRequest request = DisputeRequests.customerRequest();
+        request.getTransaction().setAmount(new BigDecimal(amount));
+        return request;
+    }
+}
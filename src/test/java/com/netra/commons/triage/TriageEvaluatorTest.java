@@ -0,0 +1,121 @@
+package com.netra.commons.triage;
+
+import com.netra.commons.DisputeRequests;
+import com.netra.commons.enums.EvidenceType;
+import com.netra.commons.enums.TransactionErrorType;
+import com.netra.commons.instrumentation.Instrumentation;
+import com.netra.commons.instrumentation.LibraryMetrics;
+import com.netra.commons.models.TriageDecisionRule;
+import com.netra.commons.requests.CreateDisputeRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TriageEvaluatorTest {
+
+    @AfterEach
+    void resetMetrics() {
+        Instrumentation.reset();
+    }
+
+    @Test
+    void firstMatchingRuleInAuthoredOrderWins() {
+        TriageEvaluator evaluator = new TriageEvaluator(List.of(
+                rule("no-match", "{\"==\":[{\"var\":\"transaction.errorType\"},\"NO_REVERSAL\"]}"),
+                rule("failed-debit", "{\"and\":[{\"==\":[{\"var\":\"transaction.errorType\"},\"FAILED_DEBIT\"]},"
+                        + "{\"in\":[\"DEBIT_ALERT\",{\"var\":\"evidenceTypes\"}]}]}"),
+                rule("catch-all", "true")));
+
+        assertThat(evaluator.evaluate(DisputeRequests.customerRequest())).map(TriageDecisionRule::getName).hasValue("failed-debit");
+        assertThat(evaluator.matchAll(DisputeRequests.customerRequest())).extracting(TriageDecisionRule::getName)
+                .containsExactly("failed-debit", "catch-all");
+    }
+
+    @Test
+    void disabledRulesAreSkipped() {
+        TriageDecisionRule disabled = rule("disabled", "true");
+        disabled.setDisabled(true);
+        TriageEvaluator evaluator = new TriageEvaluator(List.of(disabled));
+
+        assertThat(evaluator.evaluate(DisputeRequests.customerRequest())).isEmpty();
+        assertThat(evaluator.profile()).isEmpty();
+    }
+
+    @Test
+    void invalidRuleNamesTheRule() {
+        assertThatThrownBy(() -> new TriageEvaluator(List.of(rule("broken", "{\"between\":[1,2]}"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("broken");
+    }
+
+    @Test
+    void profilesCountEveryEvaluationAndEstimateTotalTime() {
+        TriageEvaluator evaluator = new TriageEvaluator(List.of(
+                rule("never", "{\"==\":[{\"var\":\"transaction.errorType\"},\"NO_REVERSAL\"]}"),
+                rule("always", "true")));
+        CreateDisputeRequest request = DisputeRequests.customerRequest();
+        for (int i = 0; i < 2000; i++) {
+            evaluator.evaluate(request);
+        }
+
+        List<TriageRuleProfile> profiles = evaluator.profile();
+        assertThat(profiles).allSatisfy(profile -> {
+            assertThat(profile.getEvaluations()).isEqualTo(2000);
+            // latency is sampled, so fewer timings than evaluations
+            assertThat(profile.getLatency().count()).isBetween(1L, 1999L);
+            assertThat(profile.getTotalNanos()).isPositive();
+        });
+        assertThat(evaluator.neverMatched()).extracting(TriageRuleProfile::getRuleName).containsExactly("never");
+    }
+
+    @Test
+    void adaptiveReorderingNeverChangesOutcomes() {
+        // the selective term is last as authored; after reordering it runs first
+        TriageEvaluator evaluator = new TriageEvaluator(List.of(rule("selective",
+                "{\"and\":[{\">\":[{\"var\":\"transaction.amount\"},0]},"
+                        + "{\"in\":[\"POS_RECEIPT\",{\"var\":\"evidenceTypes\"}]},"
+                        + "{\"==\":[{\"var\":\"transaction.errorType\"},\"DUPLICATE_DEBIT\"]}]}")));
+        CreateDisputeRequest miss = DisputeRequests.customerRequest();
+        CreateDisputeRequest hit = DisputeRequests.customerRequest();
+        hit.getTransaction().setErrorType(TransactionErrorType.DUPLICATE_DEBIT);
+        hit.getEvidences().add(DisputeRequests.evidence("ev-2", EvidenceType.POS_RECEIPT));
+
+        for (int i = 0; i < 20_000; i++) {
+            boolean expectMatch = i % 10 == 0;
+            assertThat(evaluator.evaluate(expectMatch ? hit : miss).isPresent()).isEqualTo(expectMatch);
+        }
+        List<PredicateProfile> terms = evaluator.profile().get(0).getPredicates();
+        assertThat(terms.get(0).getSelectivity()).isLessThan(terms.get(terms.size() - 1).getSelectivity());
+    }
+
+    @Test
+    void reportsTriageMetricsOnlyWhenInstalled() {
+        AtomicInteger reported = new AtomicInteger();
+        TriageEvaluator evaluator = new TriageEvaluator(List.of(rule("always", "true")));
+        evaluator.evaluate(DisputeRequests.customerRequest());
+        assertThat(reported).hasValue(0);
+
+        Instrumentation.install(new LibraryMetrics() {
+            @Override
+            public void triageCompleted(long nanos, boolean matched) {
+                assertThat(matched).isTrue();
+                reported.incrementAndGet();
+            }
+        });
+        evaluator.evaluate(DisputeRequests.customerRequest());
+        assertThat(reported).hasValue(1);
+    }
+
+    static TriageDecisionRule rule(String name, String jsonLogic) {
+        TriageDecisionRule rule = new TriageDecisionRule();
+        rule.setName(name);
+        rule.setDisabled(false);
+        rule.setJsonLogic(jsonLogic);
+        return rule;
+    }
+}
@@ -0,0 +1,135 @@
+package com.netra.commons.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedLongTableTest {
+
+    // Keeps the latest argument per key; an entry is idle once the argument has moved past it.
+    private static final StripedLongTable.Policy LATEST = new StripedLongTable.Policy() {
+        @Override
+        public long onHit(long value, long argument) {
+            return Math.max(value, argument);
+        }
+
+        @Override
+        public long onInsert(long argument) {
+            return argument;
+        }
+
+        @Override
+        public boolean isIdle(long value, long argument) {
+            return value < argument;
+        }
+    };
+
+    @Test
+    void updateReturnsThePreviousValue() {
+        StripedLongTable table = new StripedLongTable(64, 4, LATEST);
+
+        assertThat(table.update(42, 10)).isEqualTo(StripedLongTable.ABSENT);
+        assertThat(table.update(42, 5)).isEqualTo(10);
+        assertThat(table.update(42, 20)).isEqualTo(10);
+        assertThat(table.update(42, 0)).isEqualTo(20);
+        assertThat(table.update(43, 0)).isEqualTo(StripedLongTable.ABSENT);
+    }
+
+    @Test
+    void keyZeroIsStored() {
+        StripedLongTable table = new StripedLongTable(64, 4, LATEST);
+
+        assertThat(table.update(0, 7)).isEqualTo(StripedLongTable.ABSENT);
+        assertThat(table.update(0, 7)).isEqualTo(7);
+    }
+
+    @Test
+    void addOnlyChangesPresentKeys() {
+        StripedLongTable table = new StripedLongTable(64, 4, LATEST);
+        table.update(42, 10);
+
+        assertThat(table.add(42, -3)).isTrue();
+        assertThat(table.add(99, -3)).isFalse();
+        assertThat(table.update(42, 0)).isEqualTo(7);
+        assertThat(table.update(99, 0)).isEqualTo(StripedLongTable.ABSENT);
+    }
+
+    @Test
+    void capacityIsRoundedUpToWholeStripes() {
+        assertThat(new StripedLongTable(100, 4, LATEST).capacity()).isEqualTo(128);
+        assertThat(new StripedLongTable(1, 3, LATEST).capacity()).isEqualTo(4 * StripedLongTable.PROBE_LIMIT);
+    }
+
+    @Test
+    void fullProbeRunEvictsTheSmallestLiveValue() {
+        // one stripe of eight slots and keys with zero high bits: every key probes the same run
+        StripedLongTable table = new StripedLongTable(8, 1, LATEST);
+        for (long key = 1; key <= 8; key++) {
+            table.update(key, (9 - key) * 10);
+        }
+
+        assertThat(table.update(9, 5)).isEqualTo(StripedLongTable.ABSENT);
+        assertThat(table.evictions()).isEqualTo(1);
+        assertThat(table.update(7, 5)).isEqualTo(20);
+        assertThat(table.update(8, 5)).isEqualTo(StripedLongTable.ABSENT);
+    }
+
+    @Test
+    void idleEntriesAreReusedWithoutEviction() {
+        StripedLongTable table = new StripedLongTable(8, 1, LATEST);
+        for (long key = 1; key <= 8; key++) {
+            table.update(key, (9 - key) * 10);
+        }
+
+        for (long key = 100; key < 108; key++) {
+            assertThat(table.update(key, 1_000)).isEqualTo(StripedLongTable.ABSENT);
+        }
+        assertThat(table.evictions()).isZero();
+        assertThat(table.update(100, 1_000)).isEqualTo(1_000);
+    }
+
+    @Test
+    void concurrentUpdatesOfOneKeyAreNotLost() throws InterruptedException {
+        StripedLongTable.Policy count = new StripedLongTable.Policy() {
+            @Override
+            public long onHit(long value, long argument) {
+                return value + 1;
+            }
+
+            @Override
+            public long onInsert(long argument) {
+                return 1;
+            }
+
+            @Override
+            public boolean isIdle(long value, long argument) {
+                return false;
+            }
+        };
+        StripedLongTable table = new StripedLongTable(4096, 8, count);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 25_600; i++) {
+                    table.update(LongHash.mix(i % 256), 0);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int i = 0; i < 256; i++) {
+            assertThat(table.update(LongHash.mix(i), 0)).isEqualTo(400);
+        }
+        assertThat(table.evictions()).isZero();
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThatThrownBy(() -> new StripedLongTable(0, 4, LATEST)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new StripedLongTable(64, 0, LATEST)).isInstanceOf(IllegalArgumentException.class);
+    }
+}